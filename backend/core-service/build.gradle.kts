@@ -17,7 +17,8 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-actuator")
 
     // Database
-    runtimeOnly("org.postgresql:postgresql")
+    // Compile scope for the CopyManager used by the loadtest data generator
+    implementation("org.postgresql:postgresql")
     implementation("org.flywaydb:flyway-core")
     implementation("org.flywaydb:flyway-database-postgresql")
 
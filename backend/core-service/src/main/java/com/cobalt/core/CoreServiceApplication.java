@@ -2,10 +2,12 @@ package com.cobalt.core;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.context.annotation.ComponentScan;
 
 @SpringBootApplication
 @ComponentScan(basePackages = {"com.cobalt.core", "com.cobalt.common"})
+@ConfigurationPropertiesScan("com.cobalt.core.config")
 public class CoreServiceApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,85 @@
+package com.cobalt.core.config;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+// Streams CSV rows into a PostgreSQL COPY ... FROM STDIN in 64 KiB chunks
+final class CopyWriter implements AutoCloseable {
+
+    private static final int FLUSH_CHARS = 64 * 1024;
+
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_CHARS + 1024);
+    private boolean firstField = true;
+
+    CopyWriter(Connection connection, String table, String columns) throws SQLException {
+        this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+            "COPY " + table + " (" + columns + ") FROM STDIN WITH (FORMAT csv)"
+        );
+    }
+
+    CopyWriter text(String value) {
+        separate();
+        if (value == null) {
+            return this;
+        }
+        buffer.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                buffer.append('"');
+            }
+            buffer.append(c);
+        }
+        buffer.append('"');
+        return this;
+    }
+
+    // Numbers, UUIDs, booleans and ISO dates need no quoting
+    CopyWriter value(Object value) {
+        separate();
+        if (value != null) {
+            buffer.append(value);
+        }
+        return this;
+    }
+
+    void endRow() throws SQLException {
+        buffer.append('\n');
+        firstField = true;
+        if (buffer.length() >= FLUSH_CHARS) {
+            flush();
+        }
+    }
+
+    long finish() throws SQLException {
+        flush();
+        return copyIn.endCopy();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (copyIn.isActive()) {
+            copyIn.cancelCopy();
+        }
+    }
+
+    private void separate() {
+        if (!firstField) {
+            buffer.append(',');
+        }
+        firstField = false;
+    }
+
+    private void flush() throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
@@ -0,0 +1,40 @@
+package com.cobalt.core.config;
+
+import java.util.SplittableRandom;
+
+record LoadTestBuilding(
+    String boro,
+    String bin,
+    String block,
+    String lot,
+    String houseNumber,
+    String street
+) {
+
+    // Share of DOB violations per borough, BIN prefixes follow the borough code
+    private static final String[] BOROUGHS =
+        {"MANHATTAN", "BRONX", "BROOKLYN", "QUEENS", "STATEN ISLAND"};
+    private static final double[] BOROUGH_WEIGHTS = {0.30, 0.13, 0.28, 0.22, 0.07};
+
+    private static final String[] STREETS = {
+        "BROADWAY", "AMSTERDAM AVENUE", "LEXINGTON AVENUE", "GRAND CONCOURSE",
+        "FLATBUSH AVENUE", "ATLANTIC AVENUE", "OCEAN PARKWAY", "QUEENS BOULEVARD",
+        "NORTHERN BOULEVARD", "JAMAICA AVENUE", "VICTORY BOULEVARD", "HYLAN BOULEVARD",
+        "WEST 125 STREET", "EAST 86 STREET", "FULTON STREET", "CHURCH AVENUE",
+        "MYRTLE AVENUE", "ROOSEVELT AVENUE", "FORDHAM ROAD", "RICHMOND AVENUE"
+    };
+
+    // Buildings are re-derived from their index rather than held in memory
+    static LoadTestBuilding of(LoadTestKeys keys, int index) {
+        SplittableRandom random = keys.random(LoadTestKeys.BUILDING_STREAM, index);
+        int boro = LoadTestDistribution.pick(random, BOROUGH_WEIGHTS);
+        return new LoadTestBuilding(
+            BOROUGHS[boro],
+            String.valueOf((boro + 1) * 1_000_000 + index % 1_000_000),
+            String.valueOf(1 + random.nextInt(16_000)),
+            String.valueOf(1 + random.nextInt(200)),
+            String.valueOf(1 + random.nextInt(3000)),
+            STREETS[random.nextInt(STREETS.length)]
+        );
+    }
+}
@@ -0,0 +1,162 @@
+package com.cobalt.core.config;
+
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.SplittableRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("loadtest")
+public class LoadTestDataGenerator implements ApplicationRunner {
+
+    private static final Logger LOG =
+        LoggerFactory.getLogger(LoadTestDataGenerator.class);
+
+    private static final String DEFAULT_PASSWORD = "password123";
+    // Optional {id} prefix, BCrypt version and cost of the configured encoder's output
+    private static final Pattern BCRYPT_HASH =
+        Pattern.compile("(\\{bcrypt}|)\\$(2[aby])\\$(\\d{2})\\$.{53}");
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final LoadTestProperties properties;
+    private final LoadTestKeys keys;
+    private final LoadTestTables tables;
+
+    public LoadTestDataGenerator(
+        DataSource dataSource,
+        PasswordEncoder passwordEncoder,
+        LoadTestProperties properties
+    ) {
+        this.dataSource = dataSource;
+        this.passwordEncoder = passwordEncoder;
+        this.properties = properties;
+        this.keys = new LoadTestKeys(properties.seed(), properties.usersPerTenant());
+        this.tables = new LoadTestTables(properties, keys);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            String firstSlug = LoadTestKeys.slug(0);
+            if (exists(connection, "SELECT 1 FROM core.tenants WHERE slug = ?", firstSlug)) {
+                LOG.info("Loadtest tenants already exist, skipping generation");
+                return;
+            }
+            connection.setAutoCommit(false);
+            LOG.info("Generating loadtest data with seed {}", properties.seed());
+
+            LoadTestDistribution tenantSkew = LoadTestDistribution.zipf(properties.tenants(), 1.1);
+            copy(connection, "core.tenants", tables::writeTenants);
+            // One hash for every user; BCrypt at the configured cost would dominate the run
+            String passwordHash = passwordHash();
+            copy(connection, "core.users", target -> tables.writeUsers(target, passwordHash));
+
+            if (tableExists(connection, "violations.alerts")) {
+                LoadTestDistribution buildings =
+                    LoadTestDistribution.zipf(tables.buildingCount(), 1.2);
+                copy(connection, "violations.dob_violations",
+                    target -> tables.writeViolations(target, buildings));
+                copy(connection, "violations.watches",
+                    target -> tables.writeWatches(target, tenantSkew, buildings));
+                copy(connection, "violations.alerts",
+                    target -> tables.writeAlerts(target, tenantSkew));
+            } else {
+                LOG.warn("Violations schema is not migrated yet; start violations-service "
+                    + "once and rerun with a fresh database to load violations");
+            }
+
+            if (tableExists(connection, "notification.logs")) {
+                copy(connection, "notification.logs",
+                    target -> tables.writeNotificationLogs(target, tenantSkew));
+            } else {
+                LOG.warn("Notification schema is not migrated yet; skipping notification logs");
+            }
+            LOG.info("Loadtest data generation complete");
+        }
+    }
+
+    private void copy(Connection connection, String table, TableLoader loader)
+        throws SQLException {
+        long started = System.nanoTime();
+        try {
+            loader.load(connection);
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        }
+        LOG.info("Loaded {} in {} ms", table, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // Same format and cost as the configured encoder, so logins do not rehash, but with a
+    // salt drawn from the seed so the users table stays a function of the seed
+    private String passwordHash() {
+        String sample = passwordEncoder.encode(DEFAULT_PASSWORD);
+        Matcher matcher = BCRYPT_HASH.matcher(sample);
+        if (!matcher.matches()) {
+            throw new IllegalStateException("Loadtest data needs a BCrypt password encoder");
+        }
+        String salt = BCrypt.gensalt(
+            "$" + matcher.group(2),
+            Integer.parseInt(matcher.group(3)),
+            new SeededSaltSource(keys.random(LoadTestKeys.PASSWORD_STREAM))
+        );
+        return matcher.group(1) + BCrypt.hashpw(DEFAULT_PASSWORD, salt);
+    }
+
+    private static boolean tableExists(Connection connection, String table) throws SQLException {
+        try (PreparedStatement statement =
+                 connection.prepareStatement("SELECT to_regclass(?) IS NOT NULL")) {
+            statement.setString(1, table);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private static boolean exists(Connection connection, String sql, String value)
+        throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, value);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    // BCrypt.gensalt only draws the salt bytes through nextBytes
+    private static final class SeededSaltSource extends SecureRandom {
+
+        private final SplittableRandom random;
+
+        SeededSaltSource(SplittableRandom random) {
+            this.random = random;
+        }
+
+        @Override
+        public void nextBytes(byte[] bytes) {
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) random.nextInt(256);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface TableLoader {
+        void load(Connection connection) throws SQLException;
+    }
+}
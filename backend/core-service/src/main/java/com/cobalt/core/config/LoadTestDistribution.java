@@ -0,0 +1,47 @@
+package com.cobalt.core.config;
+
+import java.util.SplittableRandom;
+
+// Zipf(s) over [0, n) sampled by binary search on the cumulative weights
+record LoadTestDistribution(double[] cumulative) {
+
+    static LoadTestDistribution zipf(int n, double exponent) {
+        double[] cumulative = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1 / Math.pow(i + 1, exponent);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+        return new LoadTestDistribution(cumulative);
+    }
+
+    // Index of the weight the roll lands in; weights are expected to sum to 1
+    static int pick(SplittableRandom random, double[] weights) {
+        double roll = random.nextDouble();
+        for (int i = 0; i < weights.length - 1; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    int sample(SplittableRandom random) {
+        double roll = random.nextDouble();
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] < roll) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
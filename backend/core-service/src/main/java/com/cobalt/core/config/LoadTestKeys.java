@@ -0,0 +1,66 @@
+package com.cobalt.core.config;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+// Ids, names and random streams of the loadtest data, all derived from the seed
+final class LoadTestKeys {
+
+    // One stream per table so changing one table's volume leaves the others unchanged
+    static final long TENANT_STREAM = 0x7e4a_0001L;
+    static final long USER_STREAM = 0x7e4a_0002L;
+    static final long VIOLATION_STREAM = 0x7e4a_0003L;
+    static final long BUILDING_STREAM = 0x7e4a_0004L;
+    static final long WATCH_STREAM = 0x7e4a_0005L;
+    static final long ALERT_STREAM = 0x7e4a_0006L;
+    static final long NOTIFICATION_STREAM = 0x7e4a_0007L;
+    static final long PASSWORD_STREAM = 0x7e4a_0008L;
+
+    private static final String SLUG_PREFIX = "loadtest-";
+
+    private final long seed;
+    private final int usersPerTenant;
+
+    LoadTestKeys(long seed, int usersPerTenant) {
+        this.seed = seed;
+        this.usersPerTenant = usersPerTenant;
+    }
+
+    UUID userId(int tenant, int user) {
+        return id(USER_STREAM, (long) tenant * usersPerTenant + user);
+    }
+
+    UUID id(long stream, long index) {
+        long high = mix(seed ^ stream, index);
+        long low = mix(high, index);
+        // Stamp version 4 / IETF variant so the ids look like gen_random_uuid() output
+        high = (high & 0xffff_ffff_ffff_0fffL) | 0x4000L;
+        low = (low & 0x3fff_ffff_ffff_ffffL) | 0x8000_0000_0000_0000L;
+        return new UUID(high, low);
+    }
+
+    SplittableRandom random(long stream) {
+        return new SplittableRandom(seed ^ stream);
+    }
+
+    // A generator of its own for one index, so values can be re-derived instead of stored
+    SplittableRandom random(long stream, long index) {
+        return new SplittableRandom(mix(seed ^ stream, index));
+    }
+
+    static String slug(int tenant) {
+        return SLUG_PREFIX + String.format("%04d", tenant);
+    }
+
+    static String email(int tenant, int user) {
+        return "user" + user + "@" + slug(tenant) + ".example";
+    }
+
+    // SplitMix64 over (seed, index)
+    private static long mix(long seed, long index) {
+        long z = seed + (index + 1) * 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
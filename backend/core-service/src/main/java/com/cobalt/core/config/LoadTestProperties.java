@@ -0,0 +1,39 @@
+package com.cobalt.core.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "cobalt.loadtest")
+public record LoadTestProperties(
+    long seed,
+    int tenants,
+    int usersPerTenant,
+    int violations,
+    int watchesPerTenant,
+    int alertsPerWatch,
+    int notificationLogsPerTenant
+) {
+
+    public LoadTestProperties {
+        if (seed == 0) {
+            seed = 42;
+        }
+        if (tenants <= 0) {
+            tenants = 50;
+        }
+        if (usersPerTenant <= 0) {
+            usersPerTenant = 20;
+        }
+        if (violations <= 0) {
+            violations = 2_000_000;
+        }
+        if (watchesPerTenant <= 0) {
+            watchesPerTenant = 25;
+        }
+        if (alertsPerWatch <= 0) {
+            alertsPerWatch = 40;
+        }
+        if (notificationLogsPerTenant <= 0) {
+            notificationLogsPerTenant = 5_000;
+        }
+    }
+}
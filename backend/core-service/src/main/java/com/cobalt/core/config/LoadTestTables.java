@@ -0,0 +1,254 @@
+package com.cobalt.core.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// One COPY writer per loadtest table. Every row is a function of the seed and its index.
+final class LoadTestTables {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LoadTestTables.class);
+
+    // Fixed anchor instead of now() so the same seed yields identical rows on any day
+    private static final LocalDate ANCHOR_DATE = LocalDate.of(2025, 6, 30);
+    private static final LocalDateTime ANCHOR_TIME = ANCHOR_DATE.atTime(12, 0);
+    private static final int HISTORY_DAYS = 15 * 365;
+
+    private static final String[] VIOLATION_TYPES = {
+        "ELEVATOR", "BOILER", "CONSTRUCTION", "ZONING",
+        "PLUMBING", "ELECTRICAL", "FACADE", "LANDMARK"
+    };
+    private static final String[] VIOLATION_TYPE_CODES =
+        {"E", "B", "C", "Z", "P", "EL", "FCA", "LL"};
+    private static final double[] VIOLATION_TYPE_WEIGHTS =
+        {0.34, 0.24, 0.16, 0.05, 0.07, 0.08, 0.04, 0.02};
+
+    private static final String[] CATEGORIES = {
+        "V-DOB VIOLATION - ACTIVE",
+        "V-DOB VIOLATION - RESOLVE",
+        "V*-DOB VIOLATION - Resolved"
+    };
+    private static final double[] CATEGORY_WEIGHTS = {0.35, 0.55, 0.10};
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Maria", "James", "Wei", "Priya", "Carlos", "Fatima", "John",
+        "Olga", "Kwame", "Sofia", "Daniel", "Aisha", "Luis", "Hannah", "Omar"
+    };
+    private static final String[] LAST_NAMES = {
+        "Garcia", "Smith", "Chen", "Patel", "Rodriguez", "Johnson", "Kim", "Nguyen",
+        "Cohen", "Williams", "Okafor", "Rossi", "Brown", "Singh", "Lopez", "Murphy"
+    };
+
+    private static final String[] WATCH_FILTER_TYPES = {"BIN", "STREET", "BORO"};
+    private static final double[] WATCH_FILTER_WEIGHTS = {0.60, 0.25, 0.15};
+
+    private static final String[] CHANNELS = {"EMAIL", "SMS"};
+    private static final double[] CHANNEL_WEIGHTS = {0.70, 0.30};
+    private static final String[] STATUSES = {"SENT", "PENDING", "FAILED"};
+    private static final double[] STATUS_WEIGHTS = {0.90, 0.06, 0.04};
+
+    private final LoadTestProperties properties;
+    private final LoadTestKeys keys;
+
+    LoadTestTables(LoadTestProperties properties, LoadTestKeys keys) {
+        this.properties = properties;
+        this.keys = keys;
+    }
+
+    void writeTenants(Connection connection) throws SQLException {
+        try (CopyWriter writer = new CopyWriter(connection, "core.tenants",
+            "id, name, slug, subscription_plan, active")) {
+            SplittableRandom random = keys.random(LoadTestKeys.TENANT_STREAM);
+            String[] plans = {"FREE", "PRO", "ENTERPRISE"};
+            double[] planWeights = {0.60, 0.30, 0.10};
+            for (int i = 0; i < properties.tenants(); i++) {
+                writer.value(keys.id(LoadTestKeys.TENANT_STREAM, i))
+                    .text("Loadtest Company " + String.format("%04d", i))
+                    .text(LoadTestKeys.slug(i))
+                    .text(plans[LoadTestDistribution.pick(random, planWeights)])
+                    .value(true);
+                writer.endRow();
+            }
+            writer.finish();
+        }
+    }
+
+    void writeUsers(Connection connection, String passwordHash) throws SQLException {
+        try (CopyWriter writer = new CopyWriter(connection, "core.users",
+            "id, tenant_id, email, password_hash, first_name, last_name, role, active")) {
+            SplittableRandom random = keys.random(LoadTestKeys.USER_STREAM);
+            for (int i = 0; i < properties.tenants(); i++) {
+                for (int j = 0; j < properties.usersPerTenant(); j++) {
+                    String role = j == 0 ? "ADMIN" : random.nextInt(10) == 0 ? "MANAGER" : "TECHNICIAN";
+                    writer.value(keys.userId(i, j))
+                        .value(keys.id(LoadTestKeys.TENANT_STREAM, i))
+                        .text(LoadTestKeys.email(i, j))
+                        .text(passwordHash)
+                        .text(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)])
+                        .text(LAST_NAMES[random.nextInt(LAST_NAMES.length)])
+                        .text(role)
+                        .value(random.nextInt(50) != 0);
+                    writer.endRow();
+                }
+            }
+            writer.finish();
+        }
+    }
+
+    void writeViolations(Connection connection, LoadTestDistribution buildings)
+        throws SQLException {
+        try (CopyWriter writer = new CopyWriter(connection, "violations.dob_violations",
+            "id, isn_dob_bis_viol, boro, bin, block, lot, issue_date, violation_type_code, "
+                + "violation_number, house_number, street, disposition_date, "
+                + "disposition_comments, device_number, description, violation_category, "
+                + "violation_type")) {
+            SplittableRandom random = keys.random(LoadTestKeys.VIOLATION_STREAM);
+            for (int k = 0; k < properties.violations(); k++) {
+                int building = buildings.sample(random);
+                LoadTestBuilding site = LoadTestBuilding.of(keys, building);
+                int type = LoadTestDistribution.pick(random, VIOLATION_TYPE_WEIGHTS);
+                int category = LoadTestDistribution.pick(random, CATEGORY_WEIGHTS);
+                // Exponential with a two-year mean: most violations are recent, a long tail is old
+                int age = (int) Math.min(HISTORY_DAYS, -730 * Math.log(1 - random.nextDouble()));
+                LocalDate issued = ANCHOR_DATE.minusDays(age);
+                LocalDate disposed = category == 0
+                    ? null
+                    : issued.plusDays(Math.min(age, 14 + random.nextInt(540)));
+                String violationNumber = String.valueOf(100_000 + random.nextInt(900_000));
+
+                writer.value(keys.id(LoadTestKeys.VIOLATION_STREAM, k))
+                    .text("LT" + String.format("%09d", k))
+                    .text(site.boro())
+                    .text(site.bin())
+                    .text(site.block())
+                    .text(site.lot())
+                    .value(issued)
+                    .text(VIOLATION_TYPE_CODES[type])
+                    .text(violationNumber)
+                    .text(site.houseNumber())
+                    .text(site.street())
+                    .value(disposed)
+                    .text(disposed == null ? null : "CLOSED BY INSPECTION")
+                    .text(type == 0 ? "1P" + (1000 + random.nextInt(9000)) : null)
+                    .text(VIOLATION_TYPES[type] + " violation at " + site.houseNumber()
+                        + " " + site.street())
+                    .text(CATEGORIES[category])
+                    .text(VIOLATION_TYPES[type]);
+                writer.endRow();
+                if ((k + 1) % 500_000 == 0) {
+                    LOG.info("  {} / {} violations", k + 1, properties.violations());
+                }
+            }
+            writer.finish();
+        }
+    }
+
+    void writeWatches(
+        Connection connection,
+        LoadTestDistribution tenantSkew,
+        LoadTestDistribution buildings
+    ) throws SQLException {
+        try (CopyWriter writer = new CopyWriter(connection, "violations.watches",
+            "id, tenant_id, user_id, name, filter_type, filter_value, active")) {
+            SplittableRandom random = keys.random(LoadTestKeys.WATCH_STREAM);
+            for (int w = 0; w < watchCount(); w++) {
+                int tenant = watchTenant(w, tenantSkew);
+                int filterType = LoadTestDistribution.pick(random, WATCH_FILTER_WEIGHTS);
+                LoadTestBuilding site = LoadTestBuilding.of(keys, buildings.sample(random));
+                String value = switch (filterType) {
+                    case 0 -> site.bin();
+                    case 1 -> site.street();
+                    default -> site.boro();
+                };
+                writer.value(keys.id(LoadTestKeys.WATCH_STREAM, w))
+                    .value(keys.id(LoadTestKeys.TENANT_STREAM, tenant))
+                    .value(keys.userId(tenant, random.nextInt(properties.usersPerTenant())))
+                    .text(WATCH_FILTER_TYPES[filterType] + " " + value)
+                    .text(WATCH_FILTER_TYPES[filterType])
+                    .text(value)
+                    .value(random.nextInt(10) != 0);
+                writer.endRow();
+            }
+            writer.finish();
+        }
+    }
+
+    void writeAlerts(Connection connection, LoadTestDistribution tenantSkew)
+        throws SQLException {
+        try (CopyWriter writer = new CopyWriter(connection, "violations.alerts",
+            "id, tenant_id, watch_id, violation_id, is_read, created_at")) {
+            SplittableRandom random = keys.random(LoadTestKeys.ALERT_STREAM);
+            long alert = 0;
+            for (int w = 0; w < watchCount(); w++) {
+                UUID tenantId = keys.id(LoadTestKeys.TENANT_STREAM, watchTenant(w, tenantSkew));
+                UUID watchId = keys.id(LoadTestKeys.WATCH_STREAM, w);
+                // Geometric-like spread: a few busy watches, many quiet ones
+                int count = (int) (-properties.alertsPerWatch() * Math.log(1 - random.nextDouble()));
+                for (int a = 0; a < count; a++) {
+                    int ageMinutes = (int) Math.min(
+                        HISTORY_DAYS * 1440L, -30 * 1440 * Math.log(1 - random.nextDouble())
+                    );
+                    writer.value(keys.id(LoadTestKeys.ALERT_STREAM, alert++))
+                        .value(tenantId)
+                        .value(watchId)
+                        .value(keys.id(
+                            LoadTestKeys.VIOLATION_STREAM, random.nextInt(properties.violations())
+                        ))
+                        .value(ageMinutes > 7 * 1440 || random.nextInt(4) == 0)
+                        .value(ANCHOR_TIME.minusMinutes(ageMinutes));
+                    writer.endRow();
+                }
+            }
+            writer.finish();
+        }
+    }
+
+    void writeNotificationLogs(Connection connection, LoadTestDistribution tenantSkew)
+        throws SQLException {
+        try (CopyWriter writer = new CopyWriter(connection, "notification.logs",
+            "id, tenant_id, recipient, channel, subject, body, status, error_message, "
+                + "sent_at, created_at")) {
+            SplittableRandom random = keys.random(LoadTestKeys.NOTIFICATION_STREAM);
+            long total = (long) properties.tenants() * properties.notificationLogsPerTenant();
+            for (long n = 0; n < total; n++) {
+                int tenant = tenantSkew.sample(random);
+                int user = random.nextInt(properties.usersPerTenant());
+                boolean email = LoadTestDistribution.pick(random, CHANNEL_WEIGHTS) == 0;
+                int status = LoadTestDistribution.pick(random, STATUS_WEIGHTS);
+                LocalDateTime created = ANCHOR_TIME.minusSeconds(random.nextLong(90L * 86_400));
+                writer.value(keys.id(LoadTestKeys.NOTIFICATION_STREAM, n))
+                    .value(keys.id(LoadTestKeys.TENANT_STREAM, tenant))
+                    .text(email
+                        ? LoadTestKeys.email(tenant, user)
+                        : "+1212555" + String.format("%04d", random.nextInt(10_000)))
+                    .text(CHANNELS[email ? 0 : 1])
+                    .text(email ? "New DOB violation on a watched building" : null)
+                    .text("A new violation matched one of your watches.")
+                    .text(STATUSES[status])
+                    .text(status == 2 ? "Provider rejected the message" : null)
+                    .value(status == 0 ? created.plusSeconds(1 + random.nextInt(30)) : null)
+                    .value(created);
+                writer.endRow();
+            }
+            writer.finish();
+        }
+    }
+
+    int buildingCount() {
+        return Math.max(1, properties.violations() / 8);
+    }
+
+    private int watchCount() {
+        return properties.tenants() * properties.watchesPerTenant();
+    }
+
+    // Watch tenants are re-derived when writing alerts rather than held in memory
+    private int watchTenant(int watch, LoadTestDistribution tenantSkew) {
+        return tenantSkew.sample(keys.random(LoadTestKeys.WATCH_STREAM, watch));
+    }
+}
@@ -0,0 +1,47 @@
+package com.cobalt.core.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "cobalt.auth.login-lookup")
+public record LoginLookupProperties(
+    TenantCache tenantCache,
+    UnknownLogins unknownLogins
+) {
+
+    public LoginLookupProperties {
+        if (tenantCache == null) {
+            tenantCache = new TenantCache(0, null);
+        }
+        if (unknownLogins == null) {
+            unknownLogins = new UnknownLogins(null, 0, null);
+        }
+    }
+
+    public record TenantCache(long maximumSize, Duration ttl) {
+
+        public TenantCache {
+            if (maximumSize <= 0) {
+                maximumSize = 10_000;
+            }
+            if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+                ttl = Duration.ofMinutes(10);
+            }
+        }
+    }
+
+    public record UnknownLogins(Boolean enabled, long maximumSize, Duration ttl) {
+
+        public UnknownLogins {
+            if (enabled == null) {
+                enabled = true;
+            }
+            if (maximumSize <= 0) {
+                maximumSize = 100_000;
+            }
+            if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+                ttl = Duration.ofMinutes(5);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.cobalt.core.config;
+
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// operators: ids of the platform operators allowed to onboard tenants in bulk. Every
+// self-service signup is a tenant ADMIN, so the role alone cannot guard an endpoint
+// that writes into other tenants. Nobody may onboard while the list is empty.
+@ConfigurationProperties(prefix = "cobalt.onboarding")
+public record OnboardingProperties(
+    int hashThreads,
+    int batchSize,
+    int maxUsers,
+    Set<UUID> operators
+) {
+
+    public OnboardingProperties {
+        if (hashThreads <= 0) {
+            hashThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        }
+        if (batchSize <= 0) {
+            batchSize = 500;
+        }
+        if (maxUsers <= 0) {
+            maxUsers = 10_000;
+        }
+        if (operators == null) {
+            operators = Set.of();
+        }
+    }
+}
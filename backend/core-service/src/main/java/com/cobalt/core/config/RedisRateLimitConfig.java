@@ -0,0 +1,49 @@
+package com.cobalt.core.config;
+
+import com.cobalt.core.service.RedisTokenLeaseStore;
+import java.time.Duration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+// Redis auto-configuration stays excluded so services without Redis start cleanly;
+// the connection here exists only for cluster-wide rate limiting.
+@Configuration
+@ConditionalOnProperty(prefix = "cobalt.rate-limit.cluster", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(RedisProperties.class)
+public class RedisRateLimitConfig {
+
+    @Bean
+    public LettuceConnectionFactory rateLimitRedisConnectionFactory(RedisProperties properties) {
+        RedisStandaloneConfiguration server = new RedisStandaloneConfiguration(
+            properties.getHost(), properties.getPort()
+        );
+        server.setDatabase(properties.getDatabase());
+        server.setUsername(properties.getUsername());
+        server.setPassword(properties.getPassword());
+
+        // Lease refills run off the request path, so a slow Redis only delays the next lease
+        Duration timeout = properties.getTimeout() != null
+            ? properties.getTimeout()
+            : Duration.ofMillis(500);
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder client =
+            LettuceClientConfiguration.builder().commandTimeout(timeout);
+        if (properties.getSsl().isEnabled()) {
+            client.useSsl();
+        }
+        return new LettuceConnectionFactory(server, client.build());
+    }
+
+    @Bean
+    public RedisTokenLeaseStore redisTokenLeaseStore(
+        LettuceConnectionFactory rateLimitRedisConnectionFactory
+    ) {
+        return new RedisTokenLeaseStore(new StringRedisTemplate(rateLimitRedisConnectionFactory));
+    }
+}
@@ -0,0 +1,24 @@
+package com.cobalt.core.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "cobalt.auth.user-status-cache")
+public record UserStatusCacheProperties(
+    Boolean enabled,
+    long maximumSize,
+    Duration ttl
+) {
+
+    public UserStatusCacheProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (maximumSize <= 0) {
+            maximumSize = 50_000;
+        }
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            ttl = Duration.ofSeconds(15);
+        }
+    }
+}
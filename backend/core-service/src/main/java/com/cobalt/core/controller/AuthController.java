@@ -48,4 +48,12 @@ public class AuthController {
         AuthResponse response = authService.refresh(request);
         return ResponseEntity.ok(ApiResponse.of(response));
     }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+        @Valid @RequestBody RefreshRequest request
+    ) {
+        authService.logout(request);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,87 @@
+package com.cobalt.core.controller;
+
+import com.cobalt.common.exception.ConflictException;
+import com.cobalt.common.security.Role;
+import com.cobalt.common.security.SecurityContextHelper;
+import com.cobalt.core.config.OnboardingProperties;
+import com.cobalt.core.dto.onboarding.BulkOnboardingRequest;
+import com.cobalt.core.dto.onboarding.OnboardingEvent;
+import com.cobalt.core.service.BulkOnboardingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/v1/onboarding")
+public class OnboardingController {
+
+    private static final Logger LOG =
+        LoggerFactory.getLogger(OnboardingController.class);
+
+    private final BulkOnboardingService onboardingService;
+    private final ObjectMapper objectMapper;
+    private final OnboardingProperties properties;
+
+    public OnboardingController(
+        BulkOnboardingService onboardingService,
+        ObjectMapper objectMapper,
+        OnboardingProperties properties
+    ) {
+        this.onboardingService = onboardingService;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    // Streams one JSON event per line: conflicts, hashing/inserting progress, then complete or error
+    @PostMapping(value = "/tenants", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> onboard(
+        @Valid @RequestBody BulkOnboardingRequest request
+    ) {
+        if (!Role.ADMIN.name().equals(SecurityContextHelper.getCurrentUserRole())
+            || !properties.operators().contains(SecurityContextHelper.getCurrentUserId())) {
+            throw new AccessDeniedException("Bulk onboarding is limited to platform operators");
+        }
+
+        BulkOnboardingService.Plan plan = onboardingService.plan(request);
+
+        StreamingResponseBody body = out -> {
+            Consumer<OnboardingEvent> events = event -> write(out, event);
+            try {
+                onboardingService.execute(plan, events);
+            } catch (ConflictException e) {
+                events.accept(OnboardingEvent.error(e.getMessage()));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } catch (RuntimeException e) {
+                LOG.error("Bulk onboarding failed", e);
+                events.accept(OnboardingEvent.error("Onboarding failed; nothing was onboarded"));
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
+    private void write(OutputStream out, OnboardingEvent event) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(event));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
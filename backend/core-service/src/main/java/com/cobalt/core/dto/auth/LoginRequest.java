@@ -2,6 +2,7 @@ package com.cobalt.core.dto.auth;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 
 public record LoginRequest(
     @NotBlank(message = "Email is required")
@@ -9,6 +10,13 @@ public record LoginRequest(
     String email,
 
     @NotBlank(message = "Password is required")
-    String password
+    String password,
+
+    @Size(max = 100, message = "Tenant must be at most 100 characters")
+    String tenant
 ) {
+
+    public LoginRequest(String email, String password) {
+        this(email, password, null);
+    }
 }
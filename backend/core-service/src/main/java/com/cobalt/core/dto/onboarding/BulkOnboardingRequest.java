@@ -0,0 +1,13 @@
+package com.cobalt.core.dto.onboarding;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record BulkOnboardingRequest(
+    @NotEmpty(message = "At least one tenant is required")
+    @Size(max = 100, message = "At most 100 tenants per request")
+    List<@Valid TenantOnboarding> tenants
+) {
+}
@@ -0,0 +1,10 @@
+package com.cobalt.core.dto.onboarding;
+
+import java.util.UUID;
+
+public record OnboardedTenant(
+    UUID tenantId,
+    String slug,
+    int users
+) {
+}
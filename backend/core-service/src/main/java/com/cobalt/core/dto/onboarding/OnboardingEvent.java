@@ -0,0 +1,41 @@
+package com.cobalt.core.dto.onboarding;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record OnboardingEvent(
+    String type,
+    String phase,
+    Integer completed,
+    Integer total,
+    String slug,
+    String email,
+    String message,
+    List<OnboardedTenant> tenants
+) {
+
+    public static OnboardingEvent progress(String phase, int completed, int total) {
+        return new OnboardingEvent(
+            "progress", phase, completed, total, null, null, null, null
+        );
+    }
+
+    public static OnboardingEvent conflict(String slug, String email, String message) {
+        return new OnboardingEvent(
+            "conflict", null, null, null, slug, email, message, null
+        );
+    }
+
+    public static OnboardingEvent complete(List<OnboardedTenant> tenants) {
+        return new OnboardingEvent(
+            "complete", null, null, null, null, null, null, tenants
+        );
+    }
+
+    public static OnboardingEvent error(String message) {
+        return new OnboardingEvent(
+            "error", null, null, null, null, null, message, null
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.cobalt.core.dto.onboarding;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record TenantOnboarding(
+    @NotBlank(message = "Company name is required")
+    String companyName,
+
+    @Size(max = 100, message = "Slug must be at most 100 characters")
+    @Pattern(regexp = "[a-z0-9-]+", message = "Slug may only contain a-z, 0-9 and -")
+    String slug,
+
+    @NotNull(message = "Users are required")
+    List<@Valid UserOnboarding> users
+) {
+}
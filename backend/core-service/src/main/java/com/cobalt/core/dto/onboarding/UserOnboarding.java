@@ -0,0 +1,26 @@
+package com.cobalt.core.dto.onboarding;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+public record UserOnboarding(
+    @NotBlank(message = "Email is required")
+    @Email(message = "Email must be valid")
+    String email,
+
+    @NotBlank(message = "Password is required")
+    @Size(min = 8, message = "Password must be at least 8 characters")
+    String password,
+
+    @NotBlank(message = "First name is required")
+    String firstName,
+
+    @NotBlank(message = "Last name is required")
+    String lastName,
+
+    @Pattern(regexp = "ADMIN|MANAGER|TECHNICIAN", message = "Role must be ADMIN, MANAGER or TECHNICIAN")
+    String role
+) {
+}
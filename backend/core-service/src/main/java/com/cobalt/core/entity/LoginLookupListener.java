@@ -0,0 +1,28 @@
+package com.cobalt.core.entity;
+
+import com.cobalt.core.service.LoginLookupService;
+import jakarta.persistence.PostPersist;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+// Clears cached "unknown" answers for every tenant and user JPA inserts, whichever code
+// path saved them. Bulk onboarding writes over JDBC and invalidates on its own.
+@Component
+public class LoginLookupListener {
+
+    private final LoginLookupService loginLookup;
+
+    // Lazy for the same reason as UserStatusListener
+    public LoginLookupListener(@Lazy LoginLookupService loginLookup) {
+        this.loginLookup = loginLookup;
+    }
+
+    @PostPersist
+    void invalidate(Object entity) {
+        if (entity instanceof User user) {
+            loginLookup.userCreated(user.getTenantId(), user.getEmail());
+        } else if (entity instanceof Tenant tenant) {
+            loginLookup.tenantCreated(tenant.getSlug());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.cobalt.core.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -16,6 +17,7 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "users", schema = "core")
+@EntityListeners({UserStatusListener.class, LoginLookupListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
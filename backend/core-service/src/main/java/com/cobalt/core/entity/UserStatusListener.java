@@ -0,0 +1,25 @@
+package com.cobalt.core.entity;
+
+import com.cobalt.core.service.UserStatusCache;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserStatusListener {
+
+    private final UserStatusCache userStatusCache;
+
+    // Lazy: Hibernate resolves entity listeners while the EntityManagerFactory that
+    // UserStatusCache depends on is still being built
+    public UserStatusListener(@Lazy UserStatusCache userStatusCache) {
+        this.userStatusCache = userStatusCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    void evict(User user) {
+        userStatusCache.evict(user.getId());
+    }
+}
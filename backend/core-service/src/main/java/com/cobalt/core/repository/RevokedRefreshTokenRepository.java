@@ -0,0 +1,41 @@
+package com.cobalt.core.repository;
+
+import com.cobalt.core.entity.RevokedRefreshToken;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface RevokedRefreshTokenRepository
+        extends JpaRepository<RevokedRefreshToken, UUID> {
+
+    // Returns 0 when the jti was already revoked, which makes rotation race-safe
+    @Transactional
+    @Modifying
+    @Query(
+        value = "INSERT INTO core.revoked_refresh_tokens "
+            + "(jti, user_id, expires_at, revoked_at) "
+            + "VALUES (:jti, :userId, :expiresAt, NOW()) "
+            + "ON CONFLICT (jti) DO NOTHING",
+        nativeQuery = true
+    )
+    int revoke(
+        @Param("jti") UUID jti,
+        @Param("userId") UUID userId,
+        @Param("expiresAt") LocalDateTime expiresAt
+    );
+
+    @Query("SELECT r.jti FROM RevokedRefreshToken r WHERE r.expiresAt > :now")
+    Stream<UUID> streamUnexpiredIds(@Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedRefreshToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -4,6 +4,8 @@ import com.cobalt.core.entity.Tenant;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -11,5 +13,11 @@ public interface TenantRepository extends JpaRepository<Tenant, UUID> {
 
     Optional<Tenant> findBySlug(String slug);
 
+    @Query("SELECT t.id FROM Tenant t WHERE t.slug = :slug")
+    Optional<UUID> findIdBySlug(@Param("slug") String slug);
+
     boolean existsBySlug(String slug);
+
+    @Query("SELECT t.subscriptionPlan FROM Tenant t WHERE t.id = :id")
+    Optional<String> findSubscriptionPlanById(@Param("id") UUID id);
 }
@@ -0,0 +1,12 @@
+package com.cobalt.core.repository;
+
+import java.util.UUID;
+
+public record UserCredentials(
+    UUID id,
+    UUID tenantId,
+    String role,
+    boolean active,
+    String passwordHash
+) {
+}
@@ -4,8 +4,13 @@ import com.cobalt.core.entity.User;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
@@ -19,4 +24,35 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     boolean existsByTenantIdAndEmail(UUID tenantId, String email);
 
     List<User> findByTenantId(UUID tenantId);
+
+    @Query("SELECT new com.cobalt.core.repository.UserCredentials("
+        + "u.id, u.tenantId, u.role, u.active, u.passwordHash) "
+        + "FROM User u WHERE u.tenantId = :tenantId AND u.email = :email")
+    Optional<UserCredentials> findCredentialsByTenantIdAndEmail(
+        @Param("tenantId") UUID tenantId,
+        @Param("email") String email
+    );
+
+    @Query("SELECT new com.cobalt.core.repository.UserCredentials("
+        + "u.id, u.tenantId, u.role, u.active, u.passwordHash) "
+        + "FROM User u WHERE u.email = :email")
+    List<UserCredentials> findCredentialsByEmail(
+        @Param("email") String email,
+        Pageable pageable
+    );
+
+    @Query("SELECT new com.cobalt.core.repository.UserStatus("
+        + "u.tenantId, u.email, u.role, u.active) "
+        + "FROM User u WHERE u.id = :id")
+    Optional<UserStatus> findStatusById(@Param("id") UUID id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.passwordHash = :newHash "
+        + "WHERE u.id = :id AND u.passwordHash = :currentHash")
+    int updatePasswordHash(
+        @Param("id") UUID id,
+        @Param("currentHash") String currentHash,
+        @Param("newHash") String newHash
+    );
 }
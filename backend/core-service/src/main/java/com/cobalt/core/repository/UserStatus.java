@@ -0,0 +1,11 @@
+package com.cobalt.core.repository;
+
+import java.util.UUID;
+
+public record UserStatus(
+    UUID tenantId,
+    String email,
+    String role,
+    boolean active
+) {
+}
@@ -2,7 +2,11 @@ package com.cobalt.core.service;
 
 import com.cobalt.common.exception.AuthenticationException;
 import com.cobalt.common.exception.ConflictException;
+import com.cobalt.common.exception.ServiceUnavailableException;
+import com.cobalt.common.security.CompactJwtVerifier;
 import com.cobalt.common.security.JwtTokenProvider;
+import com.cobalt.common.security.PasswordHashingExecutor;
+import com.cobalt.common.security.VerifiedClaims;
 import com.cobalt.core.dto.auth.AuthResponse;
 import com.cobalt.core.dto.auth.LoginRequest;
 import com.cobalt.core.dto.auth.RefreshRequest;
@@ -10,32 +14,48 @@ import com.cobalt.core.dto.auth.RegisterRequest;
 import com.cobalt.core.entity.Tenant;
 import com.cobalt.core.entity.User;
 import com.cobalt.core.repository.TenantRepository;
+import com.cobalt.core.repository.UserCredentials;
 import com.cobalt.core.repository.UserRepository;
-import io.jsonwebtoken.Claims;
-import java.util.Locale;
+import com.cobalt.core.repository.UserStatus;
 import java.util.UUID;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class AuthService {
 
+    private static final Logger LOG =
+        LoggerFactory.getLogger(AuthService.class);
+
     private final TenantRepository tenantRepository;
     private final UserRepository userRepository;
     private final JwtTokenProvider tokenProvider;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHasher;
+    private final LoginLookupService loginLookup;
+    private final CompactJwtVerifier tokenVerifier;
+    private final UserStatusCache userStatusCache;
+    private final RefreshTokenRevocationService revocations;
 
     public AuthService(
         TenantRepository tenantRepository,
         UserRepository userRepository,
         JwtTokenProvider tokenProvider,
-        PasswordEncoder passwordEncoder
+        PasswordHashingExecutor passwordHasher,
+        LoginLookupService loginLookup,
+        CompactJwtVerifier tokenVerifier,
+        UserStatusCache userStatusCache,
+        RefreshTokenRevocationService revocations
     ) {
         this.tenantRepository = tenantRepository;
         this.userRepository = userRepository;
         this.tokenProvider = tokenProvider;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
+        this.loginLookup = loginLookup;
+        this.tokenVerifier = tokenVerifier;
+        this.userStatusCache = userStatusCache;
+        this.revocations = revocations;
     }
 
     @Transactional
@@ -47,10 +67,9 @@ public class AuthService {
             );
         }
 
-        String slug = generateSlug(request.companyName());
+        String slug = Slugs.fromName(request.companyName());
         if (tenantRepository.existsBySlug(slug)) {
-            slug = slug + "-" + UUID.randomUUID().toString()
-                .substring(0, 8);
+            slug = Slugs.withRandomSuffix(slug);
         }
 
         Tenant tenant = new Tenant();
@@ -64,7 +83,7 @@ public class AuthService {
         user.setTenantId(tenant.getId());
         user.setEmail(request.email());
         user.setPasswordHash(
-            passwordEncoder.encode(request.password())
+            passwordHasher.encode(request.password())
         );
         user.setFirstName(request.firstName());
         user.setLastName(request.lastName());
@@ -75,97 +94,167 @@ public class AuthService {
         return buildAuthResponse(user);
     }
 
-    @Transactional(readOnly = true)
+    // Not transactional: no connection is held while the password hash is checked
     public AuthResponse login(LoginRequest request) {
-        User user = userRepository.findByEmail(request.email())
+        UserCredentials user = loginLookup
+            .findCredentials(request.tenant(), request.email())
             .orElseThrow(() -> new AuthenticationException(
                 "Invalid email or password"
             ));
 
-        if (!user.isActive()) {
+        if (!user.active()) {
             throw new AuthenticationException("Account is disabled");
         }
 
-        if (!passwordEncoder.matches(
-            request.password(), user.getPasswordHash()
+        if (!passwordHasher.matches(
+            request.password(), user.passwordHash()
         )) {
             throw new AuthenticationException(
                 "Invalid email or password"
             );
         }
 
-        return buildAuthResponse(user);
+        rehashIfOutdated(user, request.password());
+
+        return buildAuthResponse(
+            user.id(), request.email(), user.role(), user.tenantId()
+        );
     }
 
-    @Transactional(readOnly = true)
+    // One token parse; the revocation check is answered in memory unless the filter hits
     public AuthResponse refresh(RefreshRequest request) {
-        String token = request.refreshToken();
+        RefreshClaims claims = verifyRefreshToken(request.refreshToken());
 
-        if (!tokenProvider.validateToken(token)) {
+        if (claims.tokenId() != null
+            && revocations.isRevoked(claims.tokenId())) {
             throw new AuthenticationException(
-                "Invalid or expired refresh token"
+                "Refresh token has been revoked"
             );
         }
 
-        String tokenType = tokenProvider.getTokenType(token);
-        if (!"refresh".equals(tokenType)) {
+        UserStatus user = userStatusCache.get(claims.userId())
+            .orElseThrow(() -> new AuthenticationException(
+                "User not found"
+            ));
+
+        if (!user.tenantId().equals(claims.tenantId())) {
             throw new AuthenticationException(
-                "Token is not a refresh token"
+                "Token tenant mismatch"
+            );
+        }
+
+        if (!user.active()) {
+            throw new AuthenticationException("Account is disabled");
+        }
+
+        // Rotation: the presented token is spent. Tokens issued before jti was
+        // introduced carry none and simply age out.
+        if (claims.tokenId() != null && !revocations.revoke(
+            claims.tokenId(), claims.userId(), claims.expiresAtMillis()
+        )) {
+            throw new AuthenticationException(
+                "Refresh token has been revoked"
             );
         }
 
-        Claims claims = tokenProvider.parseToken(token);
-        UUID userId = UUID.fromString(claims.getSubject());
-        UUID tenantId = UUID.fromString(
-            claims.get("tenantId", String.class)
+        return buildAuthResponse(
+            claims.userId(), user.email(), user.role(), user.tenantId()
         );
+    }
 
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new AuthenticationException(
-                "User not found"
-            ));
+    public void logout(RefreshRequest request) {
+        RefreshClaims claims = verifyRefreshToken(request.refreshToken());
+        if (claims.tokenId() != null) {
+            revocations.revoke(
+                claims.tokenId(), claims.userId(), claims.expiresAtMillis()
+            );
+        }
+    }
 
-        if (!user.getTenantId().equals(tenantId)) {
+    private RefreshClaims verifyRefreshToken(String token) {
+        VerifiedClaims claims = tokenVerifier.verify(token);
+        if (claims == null || claims.subject() == null
+            || claims.tenantId() == null) {
             throw new AuthenticationException(
-                "Token tenant mismatch"
+                "Invalid or expired refresh token"
             );
         }
 
-        if (!user.isActive()) {
-            throw new AuthenticationException("Account is disabled");
+        if (!claims.isRefreshToken()) {
+            throw new AuthenticationException(
+                "Token is not a refresh token"
+            );
         }
 
-        return buildAuthResponse(user);
+        try {
+            return new RefreshClaims(
+                UUID.fromString(claims.subject()),
+                UUID.fromString(claims.tenantId()),
+                claims.tokenId() != null
+                    ? UUID.fromString(claims.tokenId()) : null,
+                claims.expiresAtMillis()
+            );
+        } catch (IllegalArgumentException e) {
+            throw new AuthenticationException(
+                "Invalid or expired refresh token"
+            );
+        }
+    }
+
+    private void rehashIfOutdated(UserCredentials user, String rawPassword) {
+        String currentHash = user.passwordHash();
+        if (!passwordHasher.needsRehash(currentHash)) {
+            return;
+        }
+        try {
+            String newHash = passwordHasher.encode(rawPassword);
+            userRepository.updatePasswordHash(
+                user.id(), currentHash, newHash
+            );
+        } catch (ServiceUnavailableException e) {
+            LOG.debug("Skipping password rehash for user {}: hashing pool busy", user.id());
+        }
     }
 
     private AuthResponse buildAuthResponse(User user) {
+        return buildAuthResponse(
+            user.getId(), user.getEmail(), user.getRole(), user.getTenantId()
+        );
+    }
+
+    private AuthResponse buildAuthResponse(
+        UUID userId,
+        String email,
+        String role,
+        UUID tenantId
+    ) {
         String accessToken = tokenProvider.generateAccessToken(
-            user.getId(),
-            user.getEmail(),
-            user.getRole(),
-            user.getTenantId()
+            userId,
+            email,
+            role,
+            tenantId
         );
         String refreshToken = tokenProvider.generateRefreshToken(
-            user.getId(),
-            user.getTenantId()
+            userId,
+            tenantId
         );
 
         return new AuthResponse(
             accessToken,
             refreshToken,
             tokenProvider.getAccessTokenExpiration(),
-            user.getId(),
-            user.getEmail(),
-            user.getRole(),
-            user.getTenantId()
+            userId,
+            email,
+            role,
+            tenantId
         );
     }
 
-    private String generateSlug(String name) {
-        return name.toLowerCase(Locale.ENGLISH)
-            .replaceAll("[^a-z0-9\\s-]", "")
-            .replaceAll("\\s+", "-")
-            .replaceAll("-+", "-")
-            .replaceAll("^-|-$", "");
+    private record RefreshClaims(
+        UUID userId,
+        UUID tenantId,
+        UUID tokenId,
+        long expiresAtMillis
+    ) {
     }
 }
@@ -0,0 +1,331 @@
+package com.cobalt.core.service;
+
+import com.cobalt.common.exception.BadRequestException;
+import com.cobalt.common.exception.ConflictException;
+import com.cobalt.core.config.OnboardingProperties;
+import com.cobalt.core.dto.onboarding.BulkOnboardingRequest;
+import com.cobalt.core.dto.onboarding.OnboardedTenant;
+import com.cobalt.core.dto.onboarding.OnboardingEvent;
+import com.cobalt.core.dto.onboarding.TenantOnboarding;
+import com.cobalt.core.dto.onboarding.UserOnboarding;
+import jakarta.annotation.PreDestroy;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class BulkOnboardingService {
+
+    private static final String INSERT_TENANT =
+        "INSERT INTO core.tenants "
+            + "(id, name, slug, subscription_plan, active, created_at, updated_at) "
+            + "VALUES (?, ?, ?, 'FREE', true, ?, ?)";
+
+    private static final String INSERT_USER =
+        "INSERT INTO core.users "
+            + "(id, tenant_id, email, password_hash, first_name, last_name, "
+            + "role, active, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, true, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final LoginLookupService loginLookup;
+    private final ThreadPoolExecutor hashPool;
+    private final int hashWindow;
+    private final int batchSize;
+    private final int maxUsers;
+
+    public BulkOnboardingService(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        PasswordEncoder passwordEncoder,
+        LoginLookupService loginLookup,
+        OnboardingProperties properties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.loginLookup = loginLookup;
+        this.batchSize = properties.batchSize();
+        this.maxUsers = properties.maxUsers();
+        this.hashWindow = properties.hashThreads() * 2;
+
+        CustomizableThreadFactory threadFactory =
+            new CustomizableThreadFactory("onboarding-hash-");
+        threadFactory.setDaemon(true);
+        // Separate from the login hashing pool so a large import cannot starve logins.
+        // Callers keep at most hashWindow tasks in flight; CallerRuns covers concurrent imports.
+        this.hashPool = new ThreadPoolExecutor(
+            properties.hashThreads(),
+            properties.hashThreads(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(hashWindow),
+            threadFactory,
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    // Runs on the request thread so size limits and conflicts surface before streaming starts
+    public Plan plan(BulkOnboardingRequest request) {
+        int requestedUsers = request.tenants().stream()
+            .mapToInt(tenant -> tenant.users().size())
+            .sum();
+        if (requestedUsers > maxUsers) {
+            throw new BadRequestException(
+                "At most " + maxUsers + " users can be onboarded per request"
+            );
+        }
+
+        List<String> requestedSlugs = new ArrayList<>();
+        List<String> requestedEmails = new ArrayList<>();
+        for (TenantOnboarding tenant : request.tenants()) {
+            requestedSlugs.add(requestedSlug(tenant));
+            tenant.users().forEach(user -> requestedEmails.add(user.email()));
+        }
+        Set<String> takenSlugs = existing(
+            "SELECT slug FROM core.tenants WHERE slug = ANY(?)", requestedSlugs
+        );
+        Set<String> takenEmails = existing(
+            "SELECT email FROM core.users WHERE email = ANY(?)", requestedEmails
+        );
+
+        List<OnboardingEvent> conflicts = new ArrayList<>();
+        List<PlannedTenant> tenants = new ArrayList<>();
+        Set<String> plannedSlugs = new HashSet<>();
+        Set<String> plannedEmails = new HashSet<>();
+        for (TenantOnboarding tenant : request.tenants()) {
+            String slug = requestedSlug(tenant);
+            boolean explicit = tenant.slug() != null;
+            if (slug.isEmpty()) {
+                conflicts.add(OnboardingEvent.conflict(
+                    null, null, "Cannot derive a slug from '" + tenant.companyName() + "'"
+                ));
+                continue;
+            }
+            if (takenSlugs.contains(slug) || plannedSlugs.contains(slug)) {
+                if (explicit) {
+                    conflicts.add(OnboardingEvent.conflict(
+                        slug, null, "Slug is already in use; tenant skipped"
+                    ));
+                    continue;
+                }
+                slug = Slugs.withRandomSuffix(slug);
+            }
+            plannedSlugs.add(slug);
+
+            List<UserOnboarding> users = new ArrayList<>();
+            for (UserOnboarding user : tenant.users()) {
+                if (takenEmails.contains(user.email())
+                    || !plannedEmails.add(user.email())) {
+                    conflicts.add(OnboardingEvent.conflict(
+                        slug, user.email(), "Email is already registered; user skipped"
+                    ));
+                    continue;
+                }
+                users.add(user);
+            }
+            tenants.add(new PlannedTenant(
+                UUID.randomUUID(), tenant.companyName(), slug, users
+            ));
+        }
+        return new Plan(tenants, conflicts);
+    }
+
+    public void execute(Plan plan, Consumer<OnboardingEvent> events) {
+        plan.conflicts().forEach(events);
+
+        List<PlannedUser> users = new ArrayList<>();
+        for (PlannedTenant tenant : plan.tenants()) {
+            for (UserOnboarding user : tenant.users()) {
+                users.add(new PlannedUser(UUID.randomUUID(), tenant.id(), user));
+            }
+        }
+
+        // Hash before opening the transaction so no connection is held during BCrypt
+        String[] hashes = hashAll(users, events);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                insertTenants(plan.tenants());
+                insertUsers(users, hashes, events);
+            });
+        } catch (DuplicateKeyException e) {
+            throw new ConflictException(
+                "A tenant or user was registered concurrently; nothing was onboarded"
+            );
+        }
+
+        for (PlannedTenant tenant : plan.tenants()) {
+            loginLookup.tenantCreated(tenant.slug());
+        }
+        for (PlannedUser user : users) {
+            loginLookup.userCreated(user.tenantId(), user.request().email());
+        }
+
+        events.accept(OnboardingEvent.complete(plan.tenants().stream()
+            .map(tenant -> new OnboardedTenant(
+                tenant.id(), tenant.slug(), tenant.users().size()
+            ))
+            .toList()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashPool.shutdown();
+    }
+
+    private String[] hashAll(List<PlannedUser> users, Consumer<OnboardingEvent> events) {
+        int total = users.size();
+        String[] hashes = new String[total];
+        ExecutorCompletionService<Integer> completions =
+            new ExecutorCompletionService<>(hashPool);
+
+        int submitted = 0;
+        int completed = 0;
+        try {
+            while (completed < total) {
+                while (submitted < total && submitted - completed < hashWindow) {
+                    int index = submitted++;
+                    String password = users.get(index).request().password();
+                    completions.submit(() -> {
+                        hashes[index] = passwordEncoder.encode(password);
+                        return index;
+                    });
+                }
+                completions.take().get();
+                completed++;
+                if (completed % batchSize == 0 || completed == total) {
+                    events.accept(OnboardingEvent.progress("hashing", completed, total));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Onboarding was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+        return hashes;
+    }
+
+    private void insertTenants(List<PlannedTenant> tenants) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_TENANT, tenants, batchSize, (ps, tenant) -> {
+            ps.setObject(1, tenant.id());
+            ps.setString(2, tenant.companyName());
+            ps.setString(3, tenant.slug());
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+    }
+
+    private void insertUsers(
+        List<PlannedUser> users,
+        String[] hashes,
+        Consumer<OnboardingEvent> events
+    ) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int total = users.size();
+        for (int from = 0; from < total; from += batchSize) {
+            int start = from;
+            int size = Math.min(batchSize, total - from);
+            jdbcTemplate.batchUpdate(INSERT_USER, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    setUser(ps, users.get(start + i), hashes[start + i], now);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+            events.accept(OnboardingEvent.progress("inserting", start + size, total));
+        }
+    }
+
+    private static void setUser(
+        PreparedStatement ps,
+        PlannedUser user,
+        String passwordHash,
+        Timestamp now
+    ) throws SQLException {
+        UserOnboarding request = user.request();
+        ps.setObject(1, user.id());
+        ps.setObject(2, user.tenantId());
+        ps.setString(3, request.email());
+        ps.setString(4, passwordHash);
+        ps.setString(5, request.firstName());
+        ps.setString(6, request.lastName());
+        ps.setString(7, request.role() != null ? request.role() : "TECHNICIAN");
+        ps.setTimestamp(8, now);
+        ps.setTimestamp(9, now);
+    }
+
+    private Set<String> existing(String sql, Collection<String> values) {
+        Set<String> found = new HashSet<>();
+        if (values.isEmpty()) {
+            return found;
+        }
+        jdbcTemplate.query(
+            sql,
+            ps -> {
+                Array array = ps.getConnection()
+                    .createArrayOf("text", values.toArray());
+                ps.setArray(1, array);
+            },
+            rs -> {
+                found.add(rs.getString(1));
+            }
+        );
+        return found;
+    }
+
+    private static String requestedSlug(TenantOnboarding tenant) {
+        return tenant.slug() != null ? tenant.slug() : Slugs.fromName(tenant.companyName());
+    }
+
+    public record Plan(
+        List<PlannedTenant> tenants,
+        List<OnboardingEvent> conflicts
+    ) {
+    }
+
+    public record PlannedTenant(
+        UUID id,
+        String companyName,
+        String slug,
+        List<UserOnboarding> users
+    ) {
+    }
+
+    private record PlannedUser(
+        UUID id,
+        UUID tenantId,
+        UserOnboarding request
+    ) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.cobalt.core.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+final class CacheInvalidation {
+
+    private CacheInvalidation() {
+    }
+
+    // Invalidate now for the writing transaction, and again once it completes so a
+    // concurrent reader that saw the pre-commit row cannot leave a stale entry behind
+    static void now(Runnable invalidation) {
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        invalidation.run();
+                    }
+                }
+            );
+        }
+    }
+}
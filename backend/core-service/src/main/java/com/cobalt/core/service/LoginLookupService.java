@@ -0,0 +1,141 @@
+package com.cobalt.core.service;
+
+import com.cobalt.core.config.LoginLookupProperties;
+import com.cobalt.core.repository.TenantRepository;
+import com.cobalt.core.repository.UserCredentials;
+import com.cobalt.core.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+@Service
+public class LoginLookupService {
+
+    // Two rows are enough to tell a unique email from an ambiguous one
+    private static final Pageable AMBIGUITY_PROBE = PageRequest.of(0, 2);
+
+    private final TenantRepository tenantRepository;
+    private final UserRepository userRepository;
+    private final Cache<String, UUID> tenantIds;
+    private final Cache<String, Boolean> unknownTenants;
+    private final Cache<UnknownLogin, Boolean> unknownLogins;
+
+    public LoginLookupService(
+        TenantRepository tenantRepository,
+        UserRepository userRepository,
+        LoginLookupProperties properties
+    ) {
+        this.tenantRepository = tenantRepository;
+        this.userRepository = userRepository;
+        this.tenantIds = Caffeine.newBuilder()
+            .maximumSize(properties.tenantCache().maximumSize())
+            .expireAfterWrite(properties.tenantCache().ttl())
+            .build();
+
+        LoginLookupProperties.UnknownLogins unknown = properties.unknownLogins();
+        this.unknownTenants = unknown.enabled()
+            ? Caffeine.newBuilder()
+                .maximumSize(unknown.maximumSize())
+                .expireAfterWrite(unknown.ttl())
+                .build()
+            : null;
+        this.unknownLogins = unknown.enabled()
+            ? Caffeine.newBuilder()
+                .maximumSize(unknown.maximumSize())
+                .expireAfterWrite(unknown.ttl())
+                .build()
+            : null;
+    }
+
+    public Optional<UserCredentials> findCredentials(String tenantSlug, String email) {
+        if (tenantSlug == null || tenantSlug.isBlank()) {
+            return findInAnyTenant(email);
+        }
+        return resolveTenantId(tenantSlug)
+            .flatMap(tenantId -> findInTenant(tenantId, email));
+    }
+
+    public Optional<UUID> resolveTenantId(String slug) {
+        UUID cached = tenantIds.getIfPresent(slug);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        if (unknownTenants != null && unknownTenants.getIfPresent(slug) != null) {
+            return Optional.empty();
+        }
+
+        Optional<UUID> tenantId = tenantRepository.findIdBySlug(slug);
+        if (tenantId.isPresent()) {
+            tenantIds.put(slug, tenantId.get());
+        } else if (unknownTenants != null) {
+            unknownTenants.put(slug, Boolean.TRUE);
+        }
+        return tenantId;
+    }
+
+    public void tenantCreated(String slug) {
+        CacheInvalidation.now(() -> {
+            tenantIds.invalidate(slug);
+            if (unknownTenants != null) {
+                unknownTenants.invalidate(slug);
+            }
+        });
+    }
+
+    public void userCreated(UUID tenantId, String email) {
+        if (unknownLogins == null) {
+            return;
+        }
+        CacheInvalidation.now(() -> {
+            unknownLogins.invalidate(new UnknownLogin(tenantId, email));
+            unknownLogins.invalidate(new UnknownLogin(null, email));
+        });
+    }
+
+    private Optional<UserCredentials> findInTenant(UUID tenantId, String email) {
+        UnknownLogin key = new UnknownLogin(tenantId, email);
+        if (isKnownUnknown(key)) {
+            return Optional.empty();
+        }
+        Optional<UserCredentials> credentials =
+            userRepository.findCredentialsByTenantIdAndEmail(tenantId, email);
+        if (credentials.isEmpty()) {
+            rememberUnknown(key);
+        }
+        return credentials;
+    }
+
+    private Optional<UserCredentials> findInAnyTenant(String email) {
+        UnknownLogin key = new UnknownLogin(null, email);
+        if (isKnownUnknown(key)) {
+            return Optional.empty();
+        }
+        List<UserCredentials> matches =
+            userRepository.findCredentialsByEmail(email, AMBIGUITY_PROBE);
+        if (matches.isEmpty()) {
+            rememberUnknown(key);
+            return Optional.empty();
+        }
+        // An ambiguous email gets the same answer as an unknown one, so a tenantless
+        // login does not reveal that the address is registered in several tenants
+        return matches.size() == 1 ? Optional.of(matches.get(0)) : Optional.empty();
+    }
+
+    private boolean isKnownUnknown(UnknownLogin key) {
+        return unknownLogins != null && unknownLogins.getIfPresent(key) != null;
+    }
+
+    private void rememberUnknown(UnknownLogin key) {
+        if (unknownLogins != null) {
+            unknownLogins.put(key, Boolean.TRUE);
+        }
+    }
+
+    private record UnknownLogin(UUID tenantId, String email) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.cobalt.core.service;
+
+import com.cobalt.common.security.TokenLeaseStore;
+import java.util.List;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+public class RedisTokenLeaseStore implements TokenLeaseStore {
+
+    private static final String KEY_PREFIX = "cobalt:rate-limit:";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> LEASE_SCRIPT = RedisScript.of(
+        new ClassPathResource("scripts/rate-limit-lease.lua"), List.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisTokenLeaseStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Lease lease(String key, int requested, Limit limit) {
+        List<?> result = redisTemplate.execute(
+            LEASE_SCRIPT,
+            List.of(KEY_PREFIX + key),
+            String.valueOf(requested),
+            String.valueOf(limit.rate()),
+            String.valueOf(limit.period().toMillis()),
+            String.valueOf(limit.capacity())
+        );
+        if (result == null || result.size() != 2) {
+            throw new IllegalStateException("Unexpected rate limit script result: " + result);
+        }
+        return new Lease(
+            ((Number) result.get(0)).intValue(),
+            ((Number) result.get(1)).longValue()
+        );
+    }
+}
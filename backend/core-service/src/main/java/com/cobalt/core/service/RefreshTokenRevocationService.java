@@ -0,0 +1,68 @@
+package com.cobalt.core.service;
+
+import com.cobalt.common.security.RevokedTokenFilter;
+import com.cobalt.core.repository.RevokedRefreshTokenRepository;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class RefreshTokenRevocationService {
+
+    private static final Logger LOG =
+        LoggerFactory.getLogger(RefreshTokenRevocationService.class);
+
+    private final RevokedRefreshTokenRepository repository;
+    private final RevokedTokenFilter filter;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public RefreshTokenRevocationService(
+        RevokedRefreshTokenRepository repository,
+        RevokedTokenFilter filter,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.repository = repository;
+        this.filter = filter;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // The filter answers almost every check; only its positives reach the database
+    public boolean isRevoked(UUID tokenId) {
+        return filter.mightContain(tokenId)
+            && repository.existsById(tokenId);
+    }
+
+    // False when the token had already been revoked, e.g. by a concurrent refresh
+    public boolean revoke(UUID tokenId, UUID userId, long expiresAtMillis) {
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(
+            Instant.ofEpochMilli(expiresAtMillis), ZoneId.systemDefault()
+        );
+        boolean revoked = repository.revoke(tokenId, userId, expiresAt) == 1;
+        filter.add(tokenId);
+        return revoked;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+        fixedDelayString = "${cobalt.security.refresh-tokens.rebuild-interval:PT1H}",
+        initialDelayString = "${cobalt.security.refresh-tokens.rebuild-interval:PT1H}"
+    )
+    public void rebuildFilter() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = repository.deleteExpired(now);
+        readOnlyTransaction.executeWithoutResult(status ->
+            filter.rebuild(() -> repository.streamUnexpiredIds(now))
+        );
+        LOG.info("Rebuilt refresh token revocation filter ({} expired entries purged)", purged);
+    }
+}
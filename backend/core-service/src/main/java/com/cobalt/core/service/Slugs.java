@@ -0,0 +1,22 @@
+package com.cobalt.core.service;
+
+import java.util.Locale;
+import java.util.UUID;
+
+final class Slugs {
+
+    private Slugs() {
+    }
+
+    static String fromName(String name) {
+        return name.toLowerCase(Locale.ENGLISH)
+            .replaceAll("[^a-z0-9\\s-]", "")
+            .replaceAll("\\s+", "-")
+            .replaceAll("-+", "-")
+            .replaceAll("^-|-$", "");
+    }
+
+    static String withRandomSuffix(String slug) {
+        return slug + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,34 @@
+package com.cobalt.core.service;
+
+import com.cobalt.common.datasource.TenantPlanResolver;
+import com.cobalt.core.repository.TenantRepository;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.stereotype.Service;
+
+// Plans are loaded in the background: the lookup runs while a connection is being
+// acquired, so it must never wait on the database itself. Until a tenant's plan has
+// loaded it gets the default weight. Loads run without a TenantContext and so bypass
+// tenant admission.
+@Service
+public class TenantPlanCache implements TenantPlanResolver {
+
+    private final AsyncLoadingCache<UUID, String> plans;
+
+    public TenantPlanCache(TenantRepository tenantRepository) {
+        this.plans = Caffeine.newBuilder()
+            .maximumSize(50_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .buildAsync(tenantId ->
+                tenantRepository.findSubscriptionPlanById(tenantId).orElse(null));
+    }
+
+    @Override
+    public String planFor(UUID tenantId) {
+        CompletableFuture<String> plan = plans.get(tenantId);
+        return plan.isDone() && !plan.isCompletedExceptionally() ? plan.join() : null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.cobalt.core.service;
+
+import com.cobalt.core.config.UserStatusCacheProperties;
+import com.cobalt.core.repository.UserRepository;
+import com.cobalt.core.repository.UserStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+
+// Per-replica cache of the tenant, role and active flag that refresh checks. Updates through
+// this replica evict immediately; a user deactivated through another replica can keep
+// refreshing here for at most ttl (15 seconds by default), so keep it short.
+@Service
+public class UserStatusCache {
+
+    private final UserRepository userRepository;
+    private final Cache<UUID, UserStatus> cache;
+
+    public UserStatusCache(
+        UserRepository userRepository,
+        UserStatusCacheProperties properties
+    ) {
+        this.userRepository = userRepository;
+        this.cache = properties.enabled()
+            ? Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .build()
+            : null;
+    }
+
+    public Optional<UserStatus> get(UUID userId) {
+        if (cache == null) {
+            return userRepository.findStatusById(userId);
+        }
+
+        UserStatus cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<UserStatus> status = userRepository.findStatusById(userId);
+        status.ifPresent(value -> cache.put(userId, value));
+        return status;
+    }
+
+    public void evict(UUID userId) {
+        if (cache == null || userId == null) {
+            return;
+        }
+        CacheInvalidation.now(() -> cache.invalidate(userId));
+    }
+}
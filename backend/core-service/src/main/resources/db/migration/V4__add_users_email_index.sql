@@ -0,0 +1,2 @@
+-- Logins without a tenant slug still resolve the account by email alone
+CREATE INDEX idx_users_email ON core.users(email);
@@ -0,0 +1,9 @@
+-- Refresh tokens are rotated on use; a jti listed here can no longer be exchanged
+CREATE TABLE core.revoked_refresh_tokens (
+    jti UUID PRIMARY KEY,
+    user_id UUID NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+CREATE INDEX idx_revoked_refresh_tokens_expires
+    ON core.revoked_refresh_tokens(expires_at);
@@ -0,0 +1,33 @@
+-- Token bucket shared by all replicas. Grants up to ARGV[1] tokens at once.
+-- KEYS[1]: bucket; ARGV: requested, rate, period millis, capacity
+-- Returns {granted, millis until the next token when nothing was granted}
+local requested = tonumber(ARGV[1])
+local rate = tonumber(ARGV[2])
+local period = tonumber(ARGV[3])
+local capacity = tonumber(ARGV[4])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(state[1])
+local ts = tonumber(state[2])
+if tokens == nil or ts == nil then
+    tokens = capacity
+    ts = now
+end
+if now > ts then
+    tokens = math.min(capacity, tokens + (now - ts) * rate / period)
+    ts = now
+end
+
+local granted = math.min(requested, math.floor(tokens))
+tokens = tokens - granted
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', ts)
+redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * period / rate) + 1000)
+
+local wait = 0
+if granted == 0 then
+    wait = math.ceil((1 - tokens) * period / rate)
+end
+return {granted, wait}
@@ -0,0 +1,87 @@
+package com.cobalt.core.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cobalt.common.test.AbstractIntegrationTest;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@SpringBootTest
+class LoadTestDataGeneratorIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        deleteLoadtestRows();
+    }
+
+    @Test
+    void run_withSameSeed_writesIdenticalRows() throws Exception {
+        generator(7).run(new DefaultApplicationArguments());
+        List<String> first = loadtestRows();
+        deleteLoadtestRows();
+
+        generator(7).run(new DefaultApplicationArguments());
+        List<String> second = loadtestRows();
+
+        assertThat(first).hasSize(3 + 3 * 4);
+        assertThat(second).containsExactlyElementsOf(first);
+    }
+
+    @Test
+    void run_withSameSeed_storesAHashThatMatchesTheDefaultPassword() throws Exception {
+        generator(7).run(new DefaultApplicationArguments());
+
+        String hash = jdbcTemplate.queryForObject(
+            "SELECT password_hash FROM core.users WHERE email = ?",
+            String.class, "user0@loadtest-0000.example"
+        );
+
+        assertThat(passwordEncoder.matches("password123", hash)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(hash)).isFalse();
+    }
+
+    private LoadTestDataGenerator generator(long seed) {
+        return new LoadTestDataGenerator(dataSource, passwordEncoder, new LoadTestProperties(
+            seed, 3, 4, 100, 2, 2, 10
+        ));
+    }
+
+    private List<String> loadtestRows() {
+        List<String> rows = jdbcTemplate.query(
+            "SELECT t.id, t.name, t.slug, t.subscription_plan, t.active "
+                + "FROM core.tenants t WHERE t.slug LIKE 'loadtest-%' ORDER BY t.id",
+            (rs, i) -> String.join("|", rs.getString(1), rs.getString(2), rs.getString(3),
+                rs.getString(4), rs.getString(5))
+        );
+        rows.addAll(jdbcTemplate.query(
+            "SELECT u.id, u.tenant_id, u.email, u.password_hash, u.first_name, u.last_name, "
+                + "u.role, u.active FROM core.users u WHERE u.email LIKE '%@loadtest-%' "
+                + "ORDER BY u.id",
+            (rs, i) -> String.join("|", rs.getString(1), rs.getString(2), rs.getString(3),
+                rs.getString(4), rs.getString(5), rs.getString(6), rs.getString(7),
+                rs.getString(8))
+        ));
+        return rows;
+    }
+
+    private void deleteLoadtestRows() {
+        jdbcTemplate.update("DELETE FROM core.users WHERE email LIKE '%@loadtest-%'");
+        jdbcTemplate.update("DELETE FROM core.tenants WHERE slug LIKE 'loadtest-%'");
+    }
+}
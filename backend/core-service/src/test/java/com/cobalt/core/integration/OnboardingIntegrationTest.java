@@ -0,0 +1,73 @@
+package com.cobalt.core.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cobalt.common.test.AbstractIntegrationTest;
+import com.cobalt.core.dto.auth.RegisterRequest;
+import com.cobalt.core.dto.onboarding.BulkOnboardingRequest;
+import com.cobalt.core.dto.onboarding.TenantOnboarding;
+import com.cobalt.core.dto.onboarding.UserOnboarding;
+import com.cobalt.core.repository.TenantRepository;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+class OnboardingIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Test
+    void onboard_bySelfRegisteredAdmin_returns403AndCreatesNothing() {
+        ResponseEntity<Map> registered = restTemplate.postForEntity(
+            "/api/v1/auth/register",
+            new RegisterRequest(
+                "Signup Co", "signup-admin@test.com", "password123", "Sign", "Up"
+            ),
+            Map.class
+        );
+        Map<String, Object> data = extractData(registered);
+        assertThat(data.get("role")).isEqualTo("ADMIN");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth((String) data.get("accessToken"));
+        BulkOnboardingRequest request = new BulkOnboardingRequest(List.of(
+            new TenantOnboarding("Other Co", "other-co-onboarded", List.of(
+                new UserOnboarding("victim@other.com", "password123", "Vic", "Tim", "ADMIN")
+            ))
+        ));
+
+        ResponseEntity<String> response = restTemplate.exchange(
+            "/api/v1/onboarding/tenants",
+            HttpMethod.POST,
+            new HttpEntity<>(request, headers),
+            String.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(tenantRepository.findIdBySlug("other-co-onboarded")).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> extractData(
+        ResponseEntity<Map> response
+    ) {
+        Map<String, Object> body = response.getBody();
+        assertThat(body).isNotNull();
+        return (Map<String, Object>) body.get("data");
+    }
+}
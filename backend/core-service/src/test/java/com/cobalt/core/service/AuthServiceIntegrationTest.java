@@ -15,11 +15,12 @@ import com.cobalt.core.entity.Tenant;
 import com.cobalt.core.entity.User;
 import com.cobalt.core.repository.TenantRepository;
 import com.cobalt.core.repository.UserRepository;
-import java.util.UUID;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,6 +46,9 @@ class AuthServiceIntegrationTest
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     void setUp() {
         userRepository.deleteAll();
@@ -279,6 +283,34 @@ class AuthServiceIntegrationTest
             .hasMessageContaining("Account is disabled");
     }
 
+    @Test
+    void login_withOutdatedHash_rehashesPasswordTransparently() {
+        RegisterRequest registerReq = new RegisterRequest(
+            "Rehash Co",
+            "rehash@test.com",
+            "password123",
+            "Test",
+            "User"
+        );
+        AuthResponse registered = authService.register(registerReq);
+
+        // Simulate a hash stored before the {bcrypt} prefix and cost calibration
+        String legacyHash = new BCryptPasswordEncoder(4).encode("password123");
+        User user = userRepository.findById(registered.userId())
+            .orElseThrow();
+        user.setPasswordHash(legacyHash);
+        userRepository.saveAndFlush(user);
+
+        authService.login(new LoginRequest("rehash@test.com", "password123"));
+        entityManager.clear();
+
+        String storedHash = userRepository.findById(registered.userId())
+            .orElseThrow().getPasswordHash();
+        assertThat(storedHash).isNotEqualTo(legacyHash).startsWith("{bcrypt}");
+        assertThat(passwordEncoder.upgradeEncoding(storedHash)).isFalse();
+        assertThat(passwordEncoder.matches("password123", storedHash)).isTrue();
+    }
+
     // ---- Refresh Tests ----
 
     @Test
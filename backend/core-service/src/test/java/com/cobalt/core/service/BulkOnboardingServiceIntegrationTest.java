@@ -0,0 +1,138 @@
+package com.cobalt.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.cobalt.common.exception.BadRequestException;
+import com.cobalt.common.test.AbstractIntegrationTest;
+import com.cobalt.core.dto.auth.AuthResponse;
+import com.cobalt.core.dto.auth.LoginRequest;
+import com.cobalt.core.dto.auth.RegisterRequest;
+import com.cobalt.core.dto.onboarding.BulkOnboardingRequest;
+import com.cobalt.core.dto.onboarding.OnboardedTenant;
+import com.cobalt.core.dto.onboarding.OnboardingEvent;
+import com.cobalt.core.dto.onboarding.TenantOnboarding;
+import com.cobalt.core.dto.onboarding.UserOnboarding;
+import com.cobalt.core.entity.User;
+import com.cobalt.core.repository.TenantRepository;
+import com.cobalt.core.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+@Transactional
+class BulkOnboardingServiceIntegrationTest
+        extends AbstractIntegrationTest {
+
+    @Autowired
+    private BulkOnboardingService onboardingService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        tenantRepository.deleteAll();
+    }
+
+    @Test
+    void execute_createsTenantAndUsersAndReportsProgress() {
+        BulkOnboardingRequest request = new BulkOnboardingRequest(List.of(
+            new TenantOnboarding("Enterprise HVAC", "enterprise-hvac", List.of(
+                user("tech1@enterprise.com", "TECHNICIAN"),
+                user("tech2@enterprise.com", null),
+                user("boss@enterprise.com", "ADMIN")
+            ))
+        ));
+
+        List<OnboardingEvent> events = new ArrayList<>();
+        onboardingService.execute(onboardingService.plan(request), events::add);
+
+        OnboardingEvent complete = events.get(events.size() - 1);
+        assertThat(complete.type()).isEqualTo("complete");
+        assertThat(complete.tenants()).singleElement()
+            .extracting(OnboardedTenant::slug, OnboardedTenant::users)
+            .containsExactly("enterprise-hvac", 3);
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.phase()).isEqualTo("hashing");
+            assertThat(event.completed()).isEqualTo(3);
+        });
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.phase()).isEqualTo("inserting");
+            assertThat(event.completed()).isEqualTo(3);
+        });
+
+        User tech = userRepository.findByEmail("tech2@enterprise.com").orElseThrow();
+        assertThat(tech.getRole()).isEqualTo("TECHNICIAN");
+        assertThat(tech.getTenantId()).isEqualTo(complete.tenants().get(0).tenantId());
+
+        AuthResponse login = authService.login(new LoginRequest(
+            "boss@enterprise.com", "password123", "enterprise-hvac"
+        ));
+        assertThat(login.role()).isEqualTo("ADMIN");
+    }
+
+    @Test
+    void plan_skipsExistingAndDuplicateEmailsAndTakenSlugs() {
+        AuthResponse existing = authService.register(new RegisterRequest(
+            "Taken Co", "existing@test.com", "password123", "Ex", "Isting"
+        ));
+        String takenSlug = tenantRepository.findById(existing.tenantId())
+            .orElseThrow().getSlug();
+
+        BulkOnboardingRequest request = new BulkOnboardingRequest(List.of(
+            new TenantOnboarding("Fresh Co", null, List.of(
+                user("existing@test.com", null),
+                user("new@test.com", null),
+                user("new@test.com", null)
+            )),
+            new TenantOnboarding("Clash Co", takenSlug, List.of(
+                user("clash@test.com", null)
+            ))
+        ));
+
+        BulkOnboardingService.Plan plan = onboardingService.plan(request);
+
+        assertThat(plan.tenants()).singleElement()
+            .satisfies(tenant -> {
+                assertThat(tenant.slug()).isEqualTo("fresh-co");
+                assertThat(tenant.users()).extracting(UserOnboarding::email)
+                    .containsExactly("new@test.com");
+            });
+        assertThat(plan.conflicts())
+            .extracting(OnboardingEvent::email)
+            .containsExactlyInAnyOrder("existing@test.com", "new@test.com", null);
+    }
+
+    @Test
+    void plan_withTooManyUsers_throwsBadRequest() {
+        List<UserOnboarding> users = IntStream.range(0, 10_001)
+            .mapToObj(i -> user("user" + i + "@bulk.com", null))
+            .toList();
+        BulkOnboardingRequest request = new BulkOnboardingRequest(List.of(
+            new TenantOnboarding("Huge Co", null, users)
+        ));
+
+        assertThatThrownBy(() -> onboardingService.plan(request))
+            .isInstanceOf(BadRequestException.class);
+    }
+
+    private static UserOnboarding user(String email, String role) {
+        return new UserOnboarding(email, "password123", "Test", "User", role);
+    }
+}
@@ -0,0 +1,194 @@
+package com.cobalt.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.cobalt.common.exception.AuthenticationException;
+import com.cobalt.common.test.AbstractIntegrationTest;
+import com.cobalt.core.dto.auth.AuthResponse;
+import com.cobalt.core.dto.auth.LoginRequest;
+import com.cobalt.core.dto.auth.RegisterRequest;
+import com.cobalt.core.entity.Tenant;
+import com.cobalt.core.entity.User;
+import com.cobalt.core.repository.TenantRepository;
+import com.cobalt.core.repository.UserRepository;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+@Transactional
+class LoginLookupServiceIntegrationTest
+        extends AbstractIntegrationTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private LoginLookupService loginLookup;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        tenantRepository.deleteAll();
+    }
+
+    @Test
+    void login_withTenantSlug_authenticatesWithinThatTenant() {
+        AuthResponse registered = authService.register(new RegisterRequest(
+            "Slug Login Co",
+            "sluglogin@test.com",
+            "password123",
+            "Test",
+            "User"
+        ));
+        String slug = tenantRepository.findById(registered.tenantId())
+            .orElseThrow().getSlug();
+
+        AuthResponse response = authService.login(
+            new LoginRequest("sluglogin@test.com", "password123", slug)
+        );
+
+        assertThat(response.userId()).isEqualTo(registered.userId());
+        assertThat(response.tenantId()).isEqualTo(registered.tenantId());
+        assertThat(response.role()).isEqualTo("ADMIN");
+    }
+
+    @Test
+    void login_withUnknownTenantSlug_throwsAuthenticationException() {
+        authService.register(new RegisterRequest(
+            "Known Slug Co",
+            "knownslug@test.com",
+            "password123",
+            "Test",
+            "User"
+        ));
+
+        LoginRequest loginReq = new LoginRequest(
+            "knownslug@test.com", "password123", "no-such-tenant"
+        );
+
+        assertThatThrownBy(() -> authService.login(loginReq))
+            .isInstanceOf(AuthenticationException.class)
+            .hasMessageContaining("Invalid email or password");
+    }
+
+    @Test
+    void login_withEmailInSeveralTenants_requiresTenantSlug() {
+        Tenant first = tenantRepository.save(tenant("Shared One", "shared-one"));
+        Tenant second = tenantRepository.save(tenant("Shared Two", "shared-two"));
+        String hash = passwordEncoder.encode("password123");
+        User inFirst = userRepository.save(user(first.getId(), "shared@test.com", hash));
+        userRepository.save(user(second.getId(), "shared@test.com", hash));
+        userRepository.flush();
+
+        LoginRequest withoutTenant = new LoginRequest(
+            "shared@test.com", "password123"
+        );
+        assertThatThrownBy(() -> authService.login(withoutTenant))
+            .isInstanceOf(AuthenticationException.class)
+            .hasMessageContaining("Invalid email or password");
+
+        AuthResponse response = authService.login(
+            new LoginRequest("shared@test.com", "password123", "shared-one")
+        );
+        assertThat(response.userId()).isEqualTo(inFirst.getId());
+        assertThat(response.tenantId()).isEqualTo(first.getId());
+    }
+
+    @Test
+    void login_withUnknownEmail_isAnsweredFromNegativeCache() {
+        Tenant tenant = tenantRepository.saveAndFlush(tenant("Negative Co", "negative-co"));
+        LoginRequest loginReq = new LoginRequest(
+            "ghost@test.com", "password123", "negative-co"
+        );
+        assertThatThrownBy(() -> authService.login(loginReq))
+            .isInstanceOf(AuthenticationException.class);
+
+        // Inserted over JDBC, behind the entity listener: the cached miss must still answer
+        jdbcTemplate.update(
+            "INSERT INTO core.users (tenant_id, email, password_hash, first_name, last_name) "
+                + "VALUES (?, ?, ?, 'Test', 'User')",
+            tenant.getId(), "ghost@test.com", passwordEncoder.encode("password123")
+        );
+        assertThatThrownBy(() -> authService.login(loginReq))
+            .isInstanceOf(AuthenticationException.class)
+            .hasMessageContaining("Invalid email or password");
+
+        loginLookup.userCreated(tenant.getId(), "ghost@test.com");
+        assertThat(authService.login(loginReq).email()).isEqualTo("ghost@test.com");
+    }
+
+    @Test
+    void login_afterUserIsSavedThroughJpa_skipsTheCachedMiss() {
+        Tenant tenant = tenantRepository.saveAndFlush(tenant("Seeded Co", "seeded-co"));
+        LoginRequest loginReq = new LoginRequest(
+            "seeded@test.com", "password123", "seeded-co"
+        );
+        assertThatThrownBy(() -> authService.login(loginReq))
+            .isInstanceOf(AuthenticationException.class);
+
+        // Any JPA insert, such as the demo seeder's, clears the cached miss
+        userRepository.saveAndFlush(user(
+            tenant.getId(), "seeded@test.com", passwordEncoder.encode("password123")
+        ));
+
+        assertThat(authService.login(loginReq).email()).isEqualTo("seeded@test.com");
+    }
+
+    @Test
+    void login_withTenantSlugSavedAfterAMiss_findsTheTenant() {
+        LoginRequest loginReq = new LoginRequest(
+            "late@test.com", "password123", "late-co"
+        );
+        assertThatThrownBy(() -> authService.login(loginReq))
+            .isInstanceOf(AuthenticationException.class);
+
+        Tenant tenant = tenantRepository.saveAndFlush(tenant("Late Co", "late-co"));
+        userRepository.saveAndFlush(user(
+            tenant.getId(), "late@test.com", passwordEncoder.encode("password123")
+        ));
+
+        assertThat(authService.login(loginReq).tenantId()).isEqualTo(tenant.getId());
+    }
+
+    private static Tenant tenant(String name, String slug) {
+        Tenant tenant = new Tenant();
+        tenant.setName(name);
+        tenant.setSlug(slug);
+        tenant.setSubscriptionPlan("FREE");
+        tenant.setActive(true);
+        return tenant;
+    }
+
+    private static User user(UUID tenantId, String email, String passwordHash) {
+        User user = new User();
+        user.setTenantId(tenantId);
+        user.setEmail(email);
+        user.setPasswordHash(passwordHash);
+        user.setFirstName("Test");
+        user.setLastName("User");
+        user.setRole("TECHNICIAN");
+        user.setActive(true);
+        return user;
+    }
+}
@@ -0,0 +1,85 @@
+package com.cobalt.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cobalt.common.security.LeasedRateLimiter;
+import com.cobalt.common.security.RateLimiter;
+import com.cobalt.common.security.TokenLeaseStore;
+import com.cobalt.common.test.AbstractIntegrationTest;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "cobalt.rate-limit.cluster.enabled=true"
+)
+class RedisTokenLeaseStoreIntegrationTest
+        extends AbstractIntegrationTest {
+
+    private static final GenericContainer<?> REDIS;
+
+    static {
+        REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+        REDIS.start();
+    }
+
+    @DynamicPropertySource
+    static void configureRedis(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(6379));
+    }
+
+    private static final TokenLeaseStore.Limit LIMIT =
+        new TokenLeaseStore.Limit(60, Duration.ofMinutes(1), 40);
+
+    @Autowired
+    private RedisTokenLeaseStore store;
+
+    @Test
+    void lease_grantsUpToCapacityThenReportsTheWait() {
+        String key = "test:" + UUID.randomUUID();
+
+        TokenLeaseStore.Lease first = store.lease(key, 30, LIMIT);
+        TokenLeaseStore.Lease second = store.lease(key, 30, LIMIT);
+        TokenLeaseStore.Lease third = store.lease(key, 30, LIMIT);
+
+        assertThat(first.granted()).isEqualTo(30);
+        assertThat(second.granted()).isEqualTo(10);
+        assertThat(third.granted()).isZero();
+        assertThat(third.retryAfterMillis()).isBetween(1L, 1_000L);
+    }
+
+    @Test
+    void leasedLimiters_onSeveralReplicas_shareOneLimit() {
+        UUID tenantId = UUID.randomUUID();
+        List<LeasedRateLimiter<UUID>> replicas = List.of(replica(), replica(), replica());
+
+        int admitted = 0;
+        for (int i = 0; i < 100; i++) {
+            for (LeasedRateLimiter<UUID> replica : replicas) {
+                if (replica.acquire(tenantId) == 0) {
+                    admitted++;
+                }
+            }
+        }
+
+        // 40 burst plus at most a token or two refilled while the loop runs
+        assertThat(admitted).isBetween(40, 42);
+    }
+
+    private LeasedRateLimiter<UUID> replica() {
+        RateLimiter<UUID> denyLocally = key -> 60_000;
+        // Refills run inline so the test does not depend on background timing
+        return new LeasedRateLimiter<>(
+            "test", store, LIMIT, denyLocally, 20,
+            Duration.ofSeconds(30), Duration.ofSeconds(5), Runnable::run
+        );
+    }
+}
@@ -0,0 +1,72 @@
+package com.cobalt.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.cobalt.common.exception.AuthenticationException;
+import com.cobalt.common.test.AbstractIntegrationTest;
+import com.cobalt.core.dto.auth.AuthResponse;
+import com.cobalt.core.dto.auth.RefreshRequest;
+import com.cobalt.core.dto.auth.RegisterRequest;
+import com.cobalt.core.entity.User;
+import com.cobalt.core.repository.TenantRepository;
+import com.cobalt.core.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+@Transactional
+class RefreshTokenIntegrationTest
+        extends AbstractIntegrationTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        tenantRepository.deleteAll();
+    }
+
+    @Test
+    void refresh_afterUserIsDisabled_seesUpdatedStatus() {
+        RegisterRequest registerReq = new RegisterRequest(
+            "Cached Status Co",
+            "cachedstatus@test.com",
+            "password123",
+            "Test",
+            "User"
+        );
+        AuthResponse registered = authService.register(registerReq);
+        RefreshRequest refreshReq = new RefreshRequest(
+            registered.refreshToken()
+        );
+
+        // First refresh caches the user's status
+        AuthResponse rotated = authService.refresh(refreshReq);
+        assertThat(rotated.userId()).isEqualTo(registered.userId());
+
+        User user = userRepository.findById(registered.userId())
+            .orElseThrow();
+        user.setActive(false);
+        userRepository.saveAndFlush(user);
+
+        RefreshRequest rotatedReq = new RefreshRequest(
+            rotated.refreshToken()
+        );
+        assertThatThrownBy(() -> authService.refresh(rotatedReq))
+            .isInstanceOf(AuthenticationException.class)
+            .hasMessageContaining("Account is disabled");
+    }
+}
@@ -0,0 +1,85 @@
+package com.cobalt.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.cobalt.common.exception.AuthenticationException;
+import com.cobalt.common.test.AbstractIntegrationTest;
+import com.cobalt.core.dto.auth.AuthResponse;
+import com.cobalt.core.dto.auth.RefreshRequest;
+import com.cobalt.core.dto.auth.RegisterRequest;
+import com.cobalt.core.repository.TenantRepository;
+import com.cobalt.core.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+@Transactional
+class RefreshTokenRevocationIntegrationTest
+        extends AbstractIntegrationTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        tenantRepository.deleteAll();
+    }
+
+    @Test
+    void refresh_withAlreadyUsedToken_isRejectedAsRevoked() {
+        AuthResponse registered = authService.register(new RegisterRequest(
+            "Rotation Co",
+            "rotation@test.com",
+            "password123",
+            "Test",
+            "User"
+        ));
+        RefreshRequest original = new RefreshRequest(
+            registered.refreshToken()
+        );
+
+        AuthResponse rotated = authService.refresh(original);
+
+        assertThat(rotated.refreshToken())
+            .isNotEqualTo(registered.refreshToken());
+        assertThatThrownBy(() -> authService.refresh(original))
+            .isInstanceOf(AuthenticationException.class)
+            .hasMessageContaining("revoked");
+        assertThat(authService.refresh(
+            new RefreshRequest(rotated.refreshToken())
+        ).userId()).isEqualTo(registered.userId());
+    }
+
+    @Test
+    void logout_revokesRefreshToken() {
+        AuthResponse registered = authService.register(new RegisterRequest(
+            "Logout Co",
+            "logout@test.com",
+            "password123",
+            "Test",
+            "User"
+        ));
+        RefreshRequest refreshReq = new RefreshRequest(
+            registered.refreshToken()
+        );
+
+        authService.logout(refreshReq);
+
+        assertThatThrownBy(() -> authService.refresh(refreshReq))
+            .isInstanceOf(AuthenticationException.class)
+            .hasMessageContaining("revoked");
+    }
+}
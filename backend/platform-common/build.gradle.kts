@@ -3,6 +3,7 @@ plugins {
     id("java-test-fixtures")
     id("org.springframework.boot")
     id("io.spring.dependency-management")
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 tasks.bootJar {
@@ -13,6 +14,17 @@ tasks.jar {
     enabled = true
 }
 
+// Microbenchmarks live in src/jmh/java. Run with: ./gradlew :platform-common:jmh
+// Select a single benchmark with -PjmhIncludes=<regex>
+jmh {
+    jmhVersion.set("1.37")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    profilers.add("gc")
+    (project.findProperty("jmhIncludes") as String?)?.let { includes.add(it) }
+}
+
 dependencies {
     // Spring Boot
     api("org.springframework.boot:spring-boot-starter-web")
@@ -20,6 +32,7 @@ dependencies {
     api("org.springframework.boot:spring-boot-starter-validation")
     api("org.springframework.boot:spring-boot-starter-security")
     api("org.springframework.boot:spring-boot-starter-actuator")
+    api("io.micrometer:micrometer-registry-prometheus")
     api("org.springframework.boot:spring-boot-starter-cache")
     api("com.github.ben-manes.caffeine:caffeine")
 
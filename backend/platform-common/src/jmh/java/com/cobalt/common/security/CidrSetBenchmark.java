@@ -0,0 +1,75 @@
+package com.cobalt.common.security;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Blocklist lookups against 500k prefixes: a mix of IPv4 /24s and /32s plus IPv6 /48s,
+// probed with random addresses (mostly misses, which walk the longest paths) and with
+// addresses known to be blocked.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CidrSetBenchmark {
+
+    private static final int PREFIXES = 500_000;
+    private static final int PROBES = 1 << 16;
+
+    private CidrSet blocklist;
+    private InetAddress[] randomProbes;
+    private InetAddress[] blockedProbes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws UnknownHostException {
+        SplittableRandom random = new SplittableRandom(42);
+        blocklist = new CidrSet();
+        blockedProbes = new InetAddress[PROBES];
+        for (int i = 0; i < PREFIXES; i++) {
+            byte[] address = randomAddress(random, i % 10 == 0 ? 16 : 4);
+            int prefix = address.length == 16 ? 48 : (i % 2 == 0 ? 24 : 32);
+            InetAddress inet = InetAddress.getByAddress(address);
+            blocklist.add(inet.getHostAddress() + "/" + prefix);
+            if (i < PROBES) {
+                blockedProbes[i] = inet;
+            }
+        }
+        randomProbes = new InetAddress[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            randomProbes[i] = InetAddress.getByAddress(randomAddress(random, i % 10 == 0 ? 16 : 4));
+        }
+    }
+
+    @Benchmark
+    public boolean randomAddress() {
+        return blocklist.contains(randomProbes[next++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public boolean blockedAddress() {
+        return blocklist.contains(blockedProbes[next++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public boolean parseAndCheck() {
+        InetAddress address = CidrSet.parseAddress("203.0.113." + (next++ & 255));
+        return blocklist.contains(address);
+    }
+
+    private static byte[] randomAddress(SplittableRandom random, int length) {
+        byte[] address = new byte[length];
+        for (int i = 0; i < length; i++) {
+            address[i] = (byte) random.nextInt(256);
+        }
+        return address;
+    }
+}
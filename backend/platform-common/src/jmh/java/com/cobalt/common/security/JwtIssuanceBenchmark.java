@@ -0,0 +1,57 @@
+package com.cobalt.common.security;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+// One login or refresh issues an access/refresh pair, so both are measured together
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class JwtIssuanceBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private UUID userId;
+    private UUID tenantId;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(
+            JwtVerificationBenchmark.SECRET, 3_600_000L, 86_400_000L
+        );
+        userId = UUID.randomUUID();
+        tenantId = UUID.randomUUID();
+    }
+
+    @Benchmark
+    public int jjwtPair() {
+        long now = System.currentTimeMillis();
+        String access = tokenProvider.buildAccessToken(
+            userId, "tech@bench.com", "TECHNICIAN", tenantId, now
+        );
+        String refresh = tokenProvider.buildRefreshToken(
+            userId, tenantId, UUID.randomUUID(), now
+        );
+        return access.length() + refresh.length();
+    }
+
+    @Benchmark
+    public int templatedPair() {
+        long now = System.currentTimeMillis();
+        String access = tokenProvider.generateAccessToken(
+            userId, "tech@bench.com", "TECHNICIAN", tenantId, now
+        );
+        String refresh = tokenProvider.generateRefreshToken(
+            userId, tenantId, UUID.randomUUID(), now
+        );
+        return access.length() + refresh.length();
+    }
+}
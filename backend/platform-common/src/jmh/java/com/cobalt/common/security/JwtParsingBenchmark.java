@@ -0,0 +1,61 @@
+package com.cobalt.common.security;
+
+import com.cobalt.common.config.TokenVerificationProperties;
+import io.jsonwebtoken.Claims;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Compare gc.alloc.rate.norm (bytes per verification) between the two paths
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtParsingBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private CompactJwtVerifier compactVerifier;
+    private CompactJwtVerifier jjwtVerifier;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(
+            JwtVerificationBenchmark.SECRET, 3_600_000L, 86_400_000L
+        );
+        compactVerifier = newVerifier(true);
+        jjwtVerifier = newVerifier(false);
+        token = tokenProvider.generateAccessToken(
+            UUID.randomUUID(), "tech@bench.com", "TECHNICIAN", UUID.randomUUID()
+        );
+    }
+
+    @Benchmark
+    public Claims jjwtParseToken() {
+        return tokenProvider.parseToken(token);
+    }
+
+    @Benchmark
+    public VerifiedClaims jjwtFallback() {
+        return jjwtVerifier.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedClaims compact() {
+        return compactVerifier.verify(token);
+    }
+
+    private CompactJwtVerifier newVerifier(boolean compactEnabled) {
+        return new CompactJwtVerifier(
+            tokenProvider,
+            new TokenVerificationProperties(
+                null, new TokenVerificationProperties.Compact(compactEnabled)
+            )
+        );
+    }
+}
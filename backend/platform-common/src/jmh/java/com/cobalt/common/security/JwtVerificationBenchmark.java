@@ -0,0 +1,72 @@
+package com.cobalt.common.security;
+
+import com.cobalt.common.config.TokenVerificationProperties;
+import io.jsonwebtoken.Claims;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtVerificationBenchmark {
+
+    static final String SECRET =
+        "dGVzdC1qd3Qtc2VjcmV0LWtleS1mb3ItY29iYWx0LXBsYXRmb3JtLXRlc3RpbmctMjAyNS1tdXN0LWJlLTI1Ni1iaXRz";
+
+    private JwtTokenProvider tokenProvider;
+    private VerifiedTokenCache cachedVerifier;
+    private VerifiedTokenCache uncachedVerifier;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 3_600_000L, 86_400_000L);
+        cachedVerifier = newCache(true);
+        uncachedVerifier = newCache(false);
+        token = tokenProvider.generateAccessToken(
+            UUID.randomUUID(), "tech@bench.com", "TECHNICIAN", UUID.randomUUID()
+        );
+    }
+
+    // The pre-cache filter path: validateToken, then parseToken again
+    @Benchmark
+    public JwtAuthentication validateThenParse() {
+        if (!tokenProvider.validateToken(token)) {
+            return null;
+        }
+        Claims claims = tokenProvider.parseToken(token);
+        return new JwtAuthentication(
+            UUID.fromString(claims.getSubject()),
+            UUID.fromString(claims.get("tenantId", String.class)),
+            claims.get("email", String.class),
+            claims.get("role", String.class)
+        );
+    }
+
+    @Benchmark
+    public JwtAuthentication singleParse() {
+        return uncachedVerifier.verifyAccessToken(token);
+    }
+
+    @Benchmark
+    public JwtAuthentication cacheHit() {
+        return cachedVerifier.verifyAccessToken(token);
+    }
+
+    private VerifiedTokenCache newCache(boolean enabled) {
+        var properties = new TokenVerificationProperties(
+            new TokenVerificationProperties.Cache(enabled, 10_000),
+            new TokenVerificationProperties.Compact(false)
+        );
+        return new VerifiedTokenCache(
+            new CompactJwtVerifier(tokenProvider, properties), properties
+        );
+    }
+}
@@ -0,0 +1,129 @@
+package com.cobalt.common.security;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+// Every thread hits the same tenant, the worst case for a per-key limiter.
+// A small limit exercises the deny path; the large one keeps tokens available.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RateLimiterContentionBenchmark {
+
+    @Param({"1000", "4000000"})
+    public int requestsPerMinute;
+
+    private final UUID tenantId = UUID.randomUUID();
+    private ConcurrentMap<UUID, SynchronizedWindowCounter> windowCounters;
+    private TokenBucketRateLimiter<UUID> tokenBuckets;
+    private GcraRateLimiter<UUID> gcra;
+
+    @Setup
+    public void setUp() {
+        windowCounters = new ConcurrentHashMap<>();
+        tokenBuckets = new TokenBucketRateLimiter<>(
+            Math.min(requestsPerMinute, TokenBucketRateLimiter.MAX_CAPACITY),
+            Duration.ofMinutes(1)
+        );
+        gcra = new GcraRateLimiter<>(requestsPerMinute, Duration.ofMinutes(1), requestsPerMinute);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean synchronizedWindow_1() {
+        return synchronizedWindow();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean synchronizedWindow_8() {
+        return synchronizedWindow();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean synchronizedWindow_64() {
+        return synchronizedWindow();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long tokenBucket_1() {
+        return tokenBuckets.acquire(tenantId);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long tokenBucket_8() {
+        return tokenBuckets.acquire(tenantId);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long tokenBucket_64() {
+        return tokenBuckets.acquire(tenantId);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long gcra_1() {
+        return gcra.acquire(tenantId);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long gcra_8() {
+        return gcra.acquire(tenantId);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long gcra_64() {
+        return gcra.acquire(tenantId);
+    }
+
+    private boolean synchronizedWindow() {
+        return windowCounters
+            .computeIfAbsent(tenantId, k -> new SynchronizedWindowCounter(Duration.ofMinutes(1)))
+            .tryIncrement(requestsPerMinute);
+    }
+
+    // The counter both rate limit filters used before TokenBucketRateLimiter
+    static class SynchronizedWindowCounter {
+
+        private final Duration window;
+        private long windowStart;
+        private int count;
+
+        SynchronizedWindowCounter(Duration window) {
+            this.window = window;
+            this.windowStart = System.currentTimeMillis();
+            this.count = 0;
+        }
+
+        synchronized boolean tryIncrement(int limit) {
+            long now = System.currentTimeMillis();
+            if (now - windowStart > window.toMillis()) {
+                windowStart = now;
+                count = 0;
+            }
+            if (count >= limit) {
+                return false;
+            }
+            count++;
+            return true;
+        }
+    }
+}
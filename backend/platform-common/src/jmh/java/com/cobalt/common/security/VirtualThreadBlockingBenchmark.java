@@ -0,0 +1,87 @@
+package com.cobalt.common.security;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+// A burst of requests that each bind a tenant, pass the rate limiter and block on
+// simulated I/O (a database or SMTP round trip), served by a Tomcat-sized platform pool
+// versus one virtual thread per request. The platform pool finishes the burst in
+// roughly requests / poolSize round trips; virtual threads in about one.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VirtualThreadBlockingBenchmark {
+
+    private static final int POOL_SIZE = 200;
+
+    @Param({"1000", "5000"})
+    public int requests;
+
+    @Param({"5"})
+    public int ioMillis;
+
+    private final List<UUID> tenants = List.of(
+        UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()
+    );
+    private TokenBucketRateLimiter<UUID> rateLimiter;
+    private ExecutorService platformPool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rateLimiter = new TokenBucketRateLimiter<>(
+            TokenBucketRateLimiter.MAX_CAPACITY, Duration.ofSeconds(1)
+        );
+        platformPool = Executors.newFixedThreadPool(POOL_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        platformPool.shutdownNow();
+    }
+
+    @Benchmark
+    public void platformThreads() throws Exception {
+        serve(platformPool);
+    }
+
+    @Benchmark
+    public void virtualThreads() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            serve(executor);
+        }
+    }
+
+    private void serve(ExecutorService executor) throws InterruptedException, ExecutionException {
+        List<Future<?>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            UUID tenantId = tenants.get(i % tenants.size());
+            futures.add(executor.submit(() -> {
+                TenantContext.<InterruptedException, RuntimeException>runWithTenant(tenantId, () -> {
+                    rateLimiter.acquire(TenantContext.getCurrentTenantId());
+                    Thread.sleep(ioMillis);
+                });
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+}
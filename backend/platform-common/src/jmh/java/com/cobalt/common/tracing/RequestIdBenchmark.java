@@ -0,0 +1,32 @@
+package com.cobalt.common.tracing;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+
+// Per-request ID generation from several request threads at once: UUID.randomUUID()
+// draws from one shared SecureRandom, RequestIds from per-thread generators.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class RequestIdBenchmark {
+
+    @Benchmark
+    public String randomUuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String timeOrderedRequestId() {
+        return RequestIds.next();
+    }
+
+    @Benchmark
+    public String traceParent() {
+        return TraceParent.newRoot().toHeader();
+    }
+}
@@ -0,0 +1,39 @@
+package com.cobalt.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+// Binds every cache to Micrometer as it is created. Boot only binds the caches a manager
+// knows about at startup, so caches created on first use would otherwise go unmetered.
+// Tags match Boot's, so a cache bound by both is registered once.
+public class MeteredCaffeineCacheManager extends CaffeineCacheManager {
+
+    public static final String HIT_RATIO = "cache.hit.ratio";
+
+    private final MeterRegistry meterRegistry;
+    private final String managerName;
+
+    public MeteredCaffeineCacheManager(MeterRegistry meterRegistry, String managerName) {
+        this.meterRegistry = meterRegistry;
+        this.managerName = managerName;
+    }
+
+    @Override
+    protected org.springframework.cache.Cache adaptCaffeineCache(
+        String name,
+        Cache<Object, Object> cache
+    ) {
+        Tags tags = Tags.of("cache.manager", managerName);
+        // Gets, evictions, load duration and size
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name, tags);
+        Gauge.builder(HIT_RATIO, cache, c -> c.stats().hitRate())
+            .description("Share of lookups answered from the cache since startup")
+            .tags(tags.and("cache", name))
+            .register(meterRegistry);
+        return super.adaptCaffeineCache(name, cache);
+    }
+}
@@ -0,0 +1,11 @@
+package com.cobalt.common.cache;
+
+// Loads entries of one Spring cache by key. Misses are loaded through it and, with
+// refresh-after-write, stale entries are reloaded in the background; a reload that
+// fails keeps the old value.
+public interface NamedCacheLoader {
+
+    String cacheName();
+
+    Object load(Object key) throws Exception;
+}
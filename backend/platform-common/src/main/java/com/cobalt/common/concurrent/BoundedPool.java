@@ -0,0 +1,63 @@
+package com.cobalt.common.concurrent;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+// Reuses costly per-call state (initialised Macs, digests, scratch buffers) across threads.
+// A ThreadLocal cache only pays off on long-lived pooled threads: with one virtual thread
+// per request it builds fresh state for every request. Keeps at most capacity (rounded up
+// to a power of two) idle instances; borrow() creates one when none is idle and release()
+// drops it when every slot is taken.
+public final class BoundedPool<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final Supplier<T> factory;
+    private final int mask;
+
+    public BoundedPool(int capacity, Supplier<T> factory) {
+        int size = capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.factory = factory;
+        this.mask = size - 1;
+    }
+
+    // Twice the core count covers every carrier thread plus callers preempted mid-use
+    public static <T> BoundedPool<T> perCore(Supplier<T> factory) {
+        return new BoundedPool<>(2 * Runtime.getRuntime().availableProcessors(), factory);
+    }
+
+    public T borrow() {
+        // Random start so concurrent callers probe different slots first
+        int start = ThreadLocalRandom.current().nextInt();
+        for (int i = 0; i <= mask; i++) {
+            int slot = (start + i) & mask;
+            T item = slots.get(slot);
+            if (item != null && slots.compareAndSet(slot, item, null)) {
+                return item;
+            }
+        }
+        return factory.get();
+    }
+
+    // Only hand back instances left in a reusable state
+    public void release(T item) {
+        int start = ThreadLocalRandom.current().nextInt();
+        for (int i = 0; i <= mask; i++) {
+            int slot = (start + i) & mask;
+            if (slots.get(slot) == null && slots.compareAndSet(slot, null, item)) {
+                return;
+            }
+        }
+    }
+
+    int idle() {
+        int idle = 0;
+        for (int i = 0; i <= mask; i++) {
+            if (slots.get(i) != null) {
+                idle++;
+            }
+        }
+        return idle;
+    }
+}
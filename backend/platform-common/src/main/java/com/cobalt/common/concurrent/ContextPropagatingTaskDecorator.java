@@ -0,0 +1,12 @@
+package com.cobalt.common.concurrent;
+
+import org.springframework.core.task.TaskDecorator;
+
+// Captures the submitting thread's request context at submission time
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return RequestContextSnapshot.capture().wrap(runnable);
+    }
+}
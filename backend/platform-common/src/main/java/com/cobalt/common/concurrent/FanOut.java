@@ -0,0 +1,85 @@
+package com.cobalt.common.concurrent;
+
+import com.cobalt.common.config.ContextPropagationConfig;
+import com.cobalt.common.config.FanOutProperties;
+import com.cobalt.common.datasource.TenantAdmissionDataSource;
+import com.cobalt.common.exception.ServiceUnavailableException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+// Runs independent pieces of a request (typically read-only queries) concurrently under
+// the caller's tenant, authentication and MDC. Each task runs outside the caller's
+// transaction and takes its own connection, so tasks must not depend on uncommitted
+// writes made by the caller.
+@Component
+public class FanOut {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final AsyncTaskExecutor executor;
+    private final long timeoutNanos;
+
+    public FanOut(
+        @Qualifier(ContextPropagationConfig.FAN_OUT_EXECUTOR) AsyncTaskExecutor executor,
+        FanOutProperties properties
+    ) {
+        this.executor = executor;
+        this.timeoutNanos = properties.timeout().toNanos();
+    }
+
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    // Results come back in task order. The first failure cancels the remaining tasks and
+    // is rethrown; exceeding the fan-out timeout surfaces as 503. If the caller holds a
+    // tenant-admitted connection, the tasks use its admission rather than waiting for
+    // permits the caller cannot give back until they finish.
+    public <T> List<T> invokeAll(List<? extends Callable<T>> tasks) {
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        List<T> results = new ArrayList<>(tasks.size());
+        long deadline = System.nanoTime() + timeoutNanos;
+        try {
+            for (Callable<T> task : tasks) {
+                Callable<T> admitted = TenantAdmissionDataSource.underCurrentAdmission(task);
+                futures.add(executor.submit(admitted));
+            }
+            for (Future<T> future : futures) {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                results.add(future.get(remaining, TimeUnit.NANOSECONDS));
+            }
+            return results;
+        } catch (TimeoutException e) {
+            throw new ServiceUnavailableException(
+                "The request took too long to complete. Try again shortly.", RETRY_AFTER_SECONDS
+            );
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(
+                "The request was interrupted. Try again shortly.", RETRY_AFTER_SECONDS
+            );
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Fan-out task failed", e.getCause());
+        } finally {
+            for (Future<T> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+}
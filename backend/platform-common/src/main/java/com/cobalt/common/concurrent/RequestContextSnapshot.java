@@ -0,0 +1,91 @@
+package com.cobalt.common.concurrent;
+
+import com.cobalt.common.security.TenantContext;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.slf4j.MDC;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+// The request-scoped thread state (tenant, authentication and MDC) captured on the calling
+// thread so a task can run under it on another one. Whatever the worker thread had bound
+// before is restored afterwards, so pooled threads never keep a previous request's tenant
+// and caller-runs execution leaves the caller's own context intact.
+public final class RequestContextSnapshot {
+
+    private final UUID tenantId;
+    private final Authentication authentication;
+    private final Map<String, String> mdc;
+
+    private RequestContextSnapshot(
+        UUID tenantId,
+        Authentication authentication,
+        Map<String, String> mdc
+    ) {
+        this.tenantId = tenantId;
+        this.authentication = authentication;
+        this.mdc = mdc;
+    }
+
+    public static RequestContextSnapshot capture() {
+        return new RequestContextSnapshot(
+            TenantContext.getCurrentTenantId(),
+            SecurityContextHolder.getContext().getAuthentication(),
+            MDC.getCopyOfContextMap()
+        );
+    }
+
+    public UUID tenantId() {
+        return tenantId;
+    }
+
+    public Runnable wrap(Runnable task) {
+        return () -> this.<RuntimeException, RuntimeException>run(task::run);
+    }
+
+    public <T> Callable<T> wrap(Callable<T> task) {
+        return () -> {
+            AtomicReference<T> result = new AtomicReference<>();
+            this.<Exception, RuntimeException>run(() -> result.set(task.call()));
+            return result.get();
+        };
+    }
+
+    public <T> Supplier<T> wrap(Supplier<T> task) {
+        return () -> {
+            AtomicReference<T> result = new AtomicReference<>();
+            this.<RuntimeException, RuntimeException>run(() -> result.set(task.get()));
+            return result.get();
+        };
+    }
+
+    public <X1 extends Throwable, X2 extends Throwable> void run(
+        TenantContext.ScopedAction<X1, X2> action
+    ) throws X1, X2 {
+        Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+        SecurityContext previousSecurity = SecurityContextHolder.getContext();
+        setMdc(mdc);
+        SecurityContext security = SecurityContextHolder.createEmptyContext();
+        security.setAuthentication(authentication);
+        SecurityContextHolder.setContext(security);
+        try {
+            // Binds null too, so a task never sees a tenant left on the worker thread
+            TenantContext.runWithTenant(tenantId, action);
+        } finally {
+            SecurityContextHolder.setContext(previousSecurity);
+            setMdc(previousMdc);
+        }
+    }
+
+    private static void setMdc(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
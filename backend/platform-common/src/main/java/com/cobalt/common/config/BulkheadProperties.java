@@ -0,0 +1,32 @@
+package com.cobalt.common.config;
+
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// Per-tenant cap on concurrent requests. plan-limits overrides max-in-flight by
+// subscription plan; tagged-tenants: tenants that get their own in-flight gauge.
+@ConfigurationProperties(prefix = "cobalt.bulkhead")
+public record BulkheadProperties(
+    boolean enabled,
+    int maxInFlight,
+    Map<String, Integer> planLimits,
+    int taggedTenants
+) {
+
+    public BulkheadProperties {
+        if (maxInFlight <= 0) {
+            maxInFlight = 20;
+        }
+        if (planLimits == null) {
+            planLimits = Map.of();
+        }
+        if (taggedTenants <= 0) {
+            taggedTenants = 200;
+        }
+    }
+
+    public int limitFor(String plan) {
+        Integer limit = plan != null ? planLimits.get(plan) : null;
+        return limit != null && limit > 0 ? limit : maxInFlight;
+    }
+}
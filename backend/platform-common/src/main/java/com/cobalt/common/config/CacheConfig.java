@@ -1,7 +1,17 @@
 package com.cobalt.common.config;
 
+import com.cobalt.common.cache.MeteredCaffeineCacheManager;
+import com.cobalt.common.cache.NamedCacheLoader;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import java.time.Duration;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -10,15 +20,77 @@ import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheSpecProperties.class)
 public class CacheConfig {
 
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager manager = new CaffeineCacheManager();
-        manager.setCaffeine(Caffeine.newBuilder()
-            .maximumSize(10_000)
-            .expireAfterWrite(Duration.ofMinutes(10))
-            .recordStats());
+    public CacheManager cacheManager(
+        CacheSpecProperties properties,
+        ObjectProvider<NamedCacheLoader> cacheLoaders,
+        MeterRegistry meterRegistry
+    ) {
+        Map<String, NamedCacheLoader> loaders = new HashMap<>();
+        cacheLoaders.orderedStream().forEach(loader -> {
+            if (loaders.putIfAbsent(loader.cacheName(), loader) != null) {
+                throw new IllegalStateException(
+                    "More than one NamedCacheLoader for cache '" + loader.cacheName() + "'"
+                );
+            }
+        });
+
+        CaffeineCacheManager manager =
+            new MeteredCaffeineCacheManager(meterRegistry, "cacheManager");
+        manager.setCaffeine(builder(properties.defaults()));
+
+        // Caches with their own spec or a loader are built up front; the rest are
+        // created from the defaults on first use
+        Set<String> named = new LinkedHashSet<>(properties.caches().keySet());
+        named.addAll(loaders.keySet());
+        for (String name : named) {
+            CacheSpecProperties.Spec spec = properties.specFor(name);
+            NamedCacheLoader loader = loaders.get(name);
+            Caffeine<Object, Object> builder = builder(spec);
+            if (spec.refreshAfterWrite() != null) {
+                if (loader == null) {
+                    throw new IllegalStateException(
+                        "Cache '" + name + "' sets refresh-after-write but has no NamedCacheLoader"
+                    );
+                }
+                builder.refreshAfterWrite(spec.refreshAfterWrite());
+            }
+            Cache<Object, Object> cache = loader != null
+                ? builder.build(loader::load)
+                : builder.build();
+            manager.registerCustomCache(name, cache);
+        }
         return manager;
     }
+
+    static Caffeine<Object, Object> builder(CacheSpecProperties.Spec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (spec.maximumSize() != null) {
+            builder.maximumSize(spec.maximumSize());
+        }
+        if (spec.maximumWeight() != null) {
+            builder.maximumWeight(spec.maximumWeight())
+                .weigher((Object key, Object value) -> weight(value));
+        }
+        if (spec.expireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.expireAfterWrite());
+        }
+        if (spec.expireAfterAccess() != null) {
+            builder.expireAfterAccess(spec.expireAfterAccess());
+        }
+        return builder;
+    }
+
+    private static int weight(Object value) {
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        if (value instanceof Map<?, ?> map) {
+            return Math.max(1, map.size());
+        }
+        return 1;
+    }
 }
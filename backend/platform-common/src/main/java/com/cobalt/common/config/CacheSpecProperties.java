@@ -0,0 +1,60 @@
+package com.cobalt.common.config;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// Caffeine policy per cache. `defaults` applies to every cache not listed under `caches`,
+// including caches created on first use; a listed cache falls back to `defaults` for the
+// bound (maximum-size or maximum-weight) and each expiry it leaves unset. maximum-weight
+// counts the elements of cached collections and maps, anything else weighs 1.
+// refresh-after-write is per cache only: a stale entry is reloaded in the background on
+// its next read while the old value is served, which needs a NamedCacheLoader bean.
+@ConfigurationProperties(prefix = "cobalt.cache")
+public record CacheSpecProperties(
+    Spec defaults,
+    Map<String, Spec> caches
+) {
+
+    public CacheSpecProperties {
+        Spec fallback = new Spec(10_000L, null, Duration.ofMinutes(10), null, null);
+        defaults = defaults != null ? defaults.withDefaults(fallback) : fallback;
+        if (caches == null) {
+            caches = Map.of();
+        }
+    }
+
+    public Spec specFor(String cacheName) {
+        Spec spec = caches.get(cacheName);
+        return spec != null ? spec.withDefaults(defaults) : defaults;
+    }
+
+    public record Spec(
+        Long maximumSize,
+        Long maximumWeight,
+        Duration expireAfterWrite,
+        Duration expireAfterAccess,
+        Duration refreshAfterWrite
+    ) {
+
+        public Spec {
+            if (maximumSize != null && maximumWeight != null) {
+                throw new IllegalArgumentException(
+                    "maximum-size and maximum-weight cannot both be set"
+                );
+            }
+        }
+
+        // Caffeine allows only one bound, so it is inherited as a whole
+        Spec withDefaults(Spec defaults) {
+            boolean bounded = maximumSize != null || maximumWeight != null;
+            return new Spec(
+                bounded ? maximumSize : defaults.maximumSize(),
+                bounded ? maximumWeight : defaults.maximumWeight(),
+                expireAfterWrite != null ? expireAfterWrite : defaults.expireAfterWrite(),
+                expireAfterAccess != null ? expireAfterAccess : defaults.expireAfterAccess(),
+                refreshAfterWrite
+            );
+        }
+    }
+}
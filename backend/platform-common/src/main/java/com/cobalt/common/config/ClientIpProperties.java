@@ -0,0 +1,29 @@
+package com.cobalt.common.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// trusted-proxies: CIDRs whose X-Forwarded-For entries are believed, defaulting to loopback
+// and private ranges; blocklist: optional file with one CIDR per line ('#' starts a
+// comment), re-read when it changes.
+@ConfigurationProperties(prefix = "cobalt.client-ip")
+public record ClientIpProperties(
+    List<String> trustedProxies,
+    Path blocklist,
+    Duration blocklistRefresh
+) {
+
+    public ClientIpProperties {
+        if (trustedProxies == null) {
+            trustedProxies = List.of(
+                "127.0.0.0/8", "::1/128",
+                "10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16", "fc00::/7"
+            );
+        }
+        if (blocklistRefresh == null) {
+            blocklistRefresh = Duration.ofMinutes(1);
+        }
+    }
+}
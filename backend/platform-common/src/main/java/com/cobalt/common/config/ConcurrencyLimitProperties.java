@@ -0,0 +1,61 @@
+package com.cobalt.common.config;
+
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// Adaptive per-endpoint-group concurrency limits. Requests whose path matches none of the
+// groups share the defaults group; actuator endpoints are never limited.
+// tolerance: how much slower than the long-term baseline recent requests may get before
+// the limit shrinks; sample-window: requests per limit update; long-window: requests the
+// baseline latency averages over.
+@ConfigurationProperties(prefix = "cobalt.concurrency-limit")
+public record ConcurrencyLimitProperties(
+    boolean enabled,
+    double tolerance,
+    double smoothing,
+    int sampleWindow,
+    int longWindow,
+    Group defaults,
+    Map<String, Group> groups
+) {
+
+    public ConcurrencyLimitProperties {
+        if (tolerance < 1) {
+            tolerance = 2.0;
+        }
+        if (smoothing <= 0 || smoothing > 1) {
+            smoothing = 0.2;
+        }
+        if (sampleWindow <= 0) {
+            sampleWindow = 20;
+        }
+        if (longWindow <= 0) {
+            longWindow = 600;
+        }
+        if (defaults == null) {
+            defaults = new Group(null, 0, 0, 0);
+        }
+        if (groups == null) {
+            groups = Map.of();
+        }
+    }
+
+    public record Group(List<String> paths, int initialLimit, int minLimit, int maxLimit) {
+
+        public Group {
+            if (paths == null) {
+                paths = List.of();
+            }
+            if (minLimit <= 0) {
+                minLimit = 5;
+            }
+            if (maxLimit < minLimit) {
+                maxLimit = Math.max(200, minLimit);
+            }
+            if (initialLimit < minLimit || initialLimit > maxLimit) {
+                initialLimit = Math.min(Math.max(20, minLimit), maxLimit);
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.cobalt.common.config;
+
+import com.cobalt.common.concurrent.ContextPropagatingTaskDecorator;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableAsync
+@EnableConfigurationProperties(FanOutProperties.class)
+public class ContextPropagationConfig {
+
+    public static final String FAN_OUT_EXECUTOR = "fanOutExecutor";
+
+    // Boot applies a unique TaskDecorator to the auto-configured applicationTaskExecutor,
+    // which also backs @Async, so both carry the request context
+    @Bean
+    public TaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+
+    // Not a default candidate, so the auto-configured applicationTaskExecutor does not back
+    // off. A full pool degrades to running tasks on the caller instead of failing.
+    @Bean(name = FAN_OUT_EXECUTOR, defaultCandidate = false)
+    public AsyncTaskExecutor fanOutExecutor(
+        FanOutProperties properties,
+        TaskDecorator contextPropagatingTaskDecorator,
+        Environment environment
+    ) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("fan-out-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(properties.threads());
+            executor.setTaskDecorator(contextPropagatingTaskDecorator);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("fan-out-");
+        executor.setCorePoolSize(properties.threads());
+        executor.setMaxPoolSize(properties.threads());
+        executor.setQueueCapacity(properties.queueCapacity());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(contextPropagatingTaskDecorator);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -0,0 +1,56 @@
+package com.cobalt.common.config;
+
+import com.cobalt.common.datasource.TenantAdmissionDataSource;
+import com.cobalt.common.datasource.TenantPlanResolver;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(DatabaseAdmissionProperties.class)
+@ConditionalOnProperty(prefix = "cobalt.db-admission", name = "enabled", havingValue = "true")
+public class DatabaseAdmissionConfig {
+
+    private static final int DEFAULT_PERMITS = 10;
+
+    // Static so wrapping the DataSource does not pull this configuration in early
+    @Bean
+    public static BeanPostProcessor tenantAdmissionDataSourcePostProcessor(
+        ObjectProvider<DatabaseAdmissionProperties> properties,
+        ObjectProvider<TenantPlanResolver> planResolver,
+        ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)
+                    || bean instanceof TenantAdmissionDataSource) {
+                    return bean;
+                }
+                DatabaseAdmissionProperties admission = properties.getObject();
+                return new TenantAdmissionDataSource(
+                    dataSource,
+                    permits(dataSource, admission),
+                    admission,
+                    planResolver,
+                    meterRegistry.getObject()
+                );
+            }
+        };
+    }
+
+    private static int permits(DataSource dataSource, DatabaseAdmissionProperties properties) {
+        if (properties.permits() > 0) {
+            return properties.permits();
+        }
+        return dataSource instanceof HikariDataSource hikari
+            ? hikari.getMaximumPoolSize()
+            : DEFAULT_PERMITS;
+    }
+}
@@ -0,0 +1,44 @@
+package com.cobalt.common.config;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// Tenant-fair admission to the connection pool. permits: connections shared by tenant
+// requests, 0 means the Hikari pool size; per-tenant-limit: connections one tenant may
+// hold at once; plan-weights: share of contended connections by subscription plan,
+// 1 for plans not listed; tagged-tenants: tenants that get their own wait-time metrics,
+// the rest are reported as "other".
+@ConfigurationProperties(prefix = "cobalt.db-admission")
+public record DatabaseAdmissionProperties(
+    boolean enabled,
+    int permits,
+    int perTenantLimit,
+    Duration maxWait,
+    Map<String, Integer> planWeights,
+    int taggedTenants
+) {
+
+    public DatabaseAdmissionProperties {
+        if (permits < 0) {
+            permits = 0;
+        }
+        if (perTenantLimit <= 0) {
+            perTenantLimit = 4;
+        }
+        if (maxWait == null || maxWait.isZero() || maxWait.isNegative()) {
+            maxWait = Duration.ofSeconds(10);
+        }
+        if (planWeights == null) {
+            planWeights = Map.of();
+        }
+        if (taggedTenants <= 0) {
+            taggedTenants = 200;
+        }
+    }
+
+    public int weightFor(String plan) {
+        Integer weight = plan != null ? planWeights.get(plan) : null;
+        return weight != null && weight > 0 ? weight : 1;
+    }
+}
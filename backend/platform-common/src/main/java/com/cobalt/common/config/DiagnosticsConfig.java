@@ -0,0 +1,60 @@
+package com.cobalt.common.config;
+
+import com.cobalt.common.diagnostics.JfrRecorder;
+import com.cobalt.common.diagnostics.RecordingsEndpoint;
+import com.cobalt.common.diagnostics.RepositoryCallInterceptor;
+import com.cobalt.common.diagnostics.SlowRequestFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.text.ParseException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+@Configuration
+@EnableConfigurationProperties(JfrProperties.class)
+@ConditionalOnProperty(prefix = "cobalt.jfr", name = "enabled", havingValue = "true")
+public class DiagnosticsConfig {
+
+    @Bean
+    public JfrRecorder jfrRecorder(
+        JfrProperties properties,
+        MeterRegistry meterRegistry
+    ) throws IOException, ParseException {
+        return new JfrRecorder(properties, meterRegistry);
+    }
+
+    @Bean
+    public SlowRequestFilter slowRequestFilter(JfrRecorder recorder, JfrProperties properties) {
+        return new SlowRequestFilter(recorder, properties.slowRequestThreshold().toNanos());
+    }
+
+    @Bean
+    public RecordingsEndpoint recordingsEndpoint(JfrRecorder recorder) {
+        return new RecordingsEndpoint(recorder);
+    }
+
+    // Runs before the factory beans create their repositories, so every repository proxy
+    // carries the interceptor. Static so it does not pull this configuration in early.
+    @Bean
+    public static BeanPostProcessor repositoryCallEventPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory ->
+                        factory.addRepositoryProxyPostProcessor((proxyFactory, repository) ->
+                            proxyFactory.addAdvice(
+                                new RepositoryCallInterceptor(repository.getRepositoryInterface())
+                            )
+                        )
+                    );
+                }
+                return bean;
+            }
+        };
+    }
+}
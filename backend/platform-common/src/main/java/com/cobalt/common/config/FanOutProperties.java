@@ -0,0 +1,24 @@
+package com.cobalt.common.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "cobalt.fan-out")
+public record FanOutProperties(
+    int threads,
+    int queueCapacity,
+    Duration timeout
+) {
+
+    public FanOutProperties {
+        if (threads <= 0) {
+            threads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        }
+        if (queueCapacity <= 0) {
+            queueCapacity = 100;
+        }
+        if (timeout == null || timeout.isZero() || timeout.isNegative()) {
+            timeout = Duration.ofSeconds(10);
+        }
+    }
+}
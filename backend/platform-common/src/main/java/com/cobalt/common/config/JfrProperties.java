@@ -0,0 +1,52 @@
+package com.cobalt.common.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+// A continuous recording keeps the last `window` of JFR data (at most maxSize). A request
+// slower than slowRequestThreshold dumps it to `directory` after captureDelay, so the
+// snapshot covers what led up to the request and what followed. At most one slow-request
+// snapshot is taken per minInterval and only the newest maxSnapshots files are kept.
+@ConfigurationProperties(prefix = "cobalt.jfr")
+public record JfrProperties(
+    boolean enabled,
+    String settings,
+    Duration window,
+    DataSize maxSize,
+    Duration slowRequestThreshold,
+    Duration captureDelay,
+    Duration minInterval,
+    int maxSnapshots,
+    Path directory
+) {
+
+    public JfrProperties {
+        if (settings == null || settings.isBlank()) {
+            settings = "default";
+        }
+        if (window == null || window.isZero() || window.isNegative()) {
+            window = Duration.ofMinutes(2);
+        }
+        if (maxSize == null || maxSize.toBytes() <= 0) {
+            maxSize = DataSize.ofMegabytes(64);
+        }
+        if (slowRequestThreshold == null || slowRequestThreshold.isZero()
+            || slowRequestThreshold.isNegative()) {
+            slowRequestThreshold = Duration.ofSeconds(2);
+        }
+        if (captureDelay == null || captureDelay.isNegative()) {
+            captureDelay = Duration.ofSeconds(10);
+        }
+        if (minInterval == null || minInterval.isNegative()) {
+            minInterval = Duration.ofMinutes(1);
+        }
+        if (maxSnapshots <= 0) {
+            maxSnapshots = 10;
+        }
+        if (directory == null) {
+            directory = Path.of(System.getProperty("java.io.tmpdir"), "cobalt-jfr");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.cobalt.common.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "cobalt.security.password-hashing")
+public record PasswordHashingProperties(
+    int threads,
+    int queueCapacity,
+    Duration timeout,
+    long retryAfterSeconds,
+    Calibration calibration
+) {
+
+    public PasswordHashingProperties {
+        if (threads <= 0) {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        if (queueCapacity <= 0) {
+            queueCapacity = 64;
+        }
+        if (timeout == null || timeout.isZero() || timeout.isNegative()) {
+            timeout = Duration.ofSeconds(10);
+        }
+        if (retryAfterSeconds <= 0) {
+            retryAfterSeconds = 2;
+        }
+        if (calibration == null) {
+            calibration = new Calibration(false, null, 0, 0, 0);
+        }
+    }
+
+    public record Calibration(
+        boolean enabled,
+        Duration targetLatency,
+        int minimumCost,
+        int maximumCost,
+        int samples
+    ) {
+
+        public Calibration {
+            if (targetLatency == null || targetLatency.isZero() || targetLatency.isNegative()) {
+                targetLatency = Duration.ofMillis(150);
+            }
+            if (minimumCost < 4) {
+                minimumCost = 10;
+            }
+            if (maximumCost < minimumCost || maximumCost > 31) {
+                maximumCost = Math.max(minimumCost, 14);
+            }
+            if (samples <= 0) {
+                samples = 5;
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.cobalt.common.config;
+
+import com.cobalt.common.metrics.PhaseTimers;
+import com.cobalt.common.metrics.PhaseTimingInterceptor;
+import com.cobalt.common.metrics.TimedJacksonHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// Security filters are wrapped in SecurityConfig once the chain is built
+@Configuration
+@EnableConfigurationProperties(PhaseTimingProperties.class)
+@ConditionalOnProperty(prefix = "cobalt.phase-timing", name = "enabled", havingValue = "true")
+public class PhaseTimingConfig {
+
+    @Bean
+    public PhaseTimers phaseTimers(PhaseTimingProperties properties, MeterRegistry meterRegistry) {
+        return new PhaseTimers(meterRegistry, properties.tenantBuckets());
+    }
+
+    // Boot backs off its own Jackson converter when one is defined
+    @Bean
+    public MappingJackson2HttpMessageConverter timedJacksonHttpMessageConverter(
+        ObjectMapper objectMapper,
+        PhaseTimers phaseTimers
+    ) {
+        return new TimedJacksonHttpMessageConverter(objectMapper, phaseTimers);
+    }
+
+    @Bean
+    public WebMvcConfigurer phaseTimingWebMvcConfigurer(PhaseTimers phaseTimers) {
+        PhaseTimingInterceptor interceptor = new PhaseTimingInterceptor(phaseTimers);
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor);
+            }
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package com.cobalt.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "cobalt.phase-timing")
+public record PhaseTimingProperties(
+    boolean enabled,
+    int tenantBuckets
+) {
+
+    public PhaseTimingProperties {
+        if (tenantBuckets <= 0) {
+            tenantBuckets = 4;
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.cobalt.common.config;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "cobalt.rate-limit")
 public record RateLimitProperties(
     Auth auth,
-    Tenant tenant
+    Tenant tenant,
+    Cluster cluster
 ) {
 
     public RateLimitProperties {
@@ -15,9 +17,45 @@ public record RateLimitProperties(
         if (tenant == null) {
             tenant = new Tenant(1000);
         }
+        if (cluster == null) {
+            cluster = new Cluster(false, 0, null, null);
+        }
+    }
+
+    public RateLimitProperties(Auth auth, Tenant tenant) {
+        this(auth, tenant, null);
+    }
+
+    public enum Algorithm {
+        GCRA,
+        TOKEN_BUCKET
+    }
+
+    // burst: requests admitted back to back before the per-minute pacing applies;
+    // 0 means the whole per-minute limit
+    public record Policy(Algorithm algorithm, int burst) {
+
+        public Policy {
+            if (algorithm == null) {
+                algorithm = Algorithm.GCRA;
+            }
+            if (burst < 0) {
+                burst = 0;
+            }
+        }
+
+        public int burstFor(int perMinute) {
+            return burst == 0 ? perMinute : Math.min(burst, perMinute);
+        }
     }
 
-    public record Auth(int loginPerMinute, int registerPerMinute) {
+    public record Auth(
+        int loginPerMinute,
+        int registerPerMinute,
+        Policy login,
+        Policy register,
+        Sketch sketch
+    ) {
 
         public Auth {
             if (loginPerMinute <= 0) {
@@ -26,15 +64,75 @@ public record RateLimitProperties(
             if (registerPerMinute <= 0) {
                 registerPerMinute = 5;
             }
+            if (login == null) {
+                login = new Policy(null, 0);
+            }
+            if (register == null) {
+                register = new Policy(null, 0);
+            }
+            if (sketch == null) {
+                sketch = new Sketch(false, 0, 0, 0);
+            }
+        }
+
+        public Auth(int loginPerMinute, int registerPerMinute) {
+            this(loginPerMinute, registerPerMinute, null, null, null);
         }
     }
 
-    public record Tenant(int requestsPerMinute) {
+    // Fixed-memory per-IP limiting: each auth limit uses two depth x width int sketches
+    // (2 x 4 x 32768 x 4 bytes = 1 MiB by default) and tracks at most topK offenders.
+    // Estimates stay accurate up to roughly 15 x width distinct IPs per minute; beyond
+    // that, counters saturate and first-time IPs start being limited too.
+    public record Sketch(boolean enabled, int width, int depth, int topK) {
+
+        public Sketch {
+            if (width <= 0) {
+                width = 32_768;
+            }
+            if (depth <= 0) {
+                depth = 4;
+            }
+            if (topK <= 0) {
+                topK = 100;
+            }
+        }
+    }
+
+    public record Tenant(int requestsPerMinute, Policy policy) {
 
         public Tenant {
             if (requestsPerMinute <= 0) {
                 requestsPerMinute = 1000;
             }
+            if (policy == null) {
+                policy = new Policy(null, 0);
+            }
+        }
+
+        public Tenant(int requestsPerMinute) {
+            this(requestsPerMinute, null);
+        }
+    }
+
+    // Tenant limits shared across replicas through a TokenLeaseStore, when one is configured
+    public record Cluster(
+        boolean enabled,
+        int leaseSize,
+        Duration leaseTtl,
+        Duration failureBackoff
+    ) {
+
+        public Cluster {
+            if (leaseSize <= 0) {
+                leaseSize = 20;
+            }
+            if (leaseTtl == null) {
+                leaseTtl = Duration.ofSeconds(2);
+            }
+            if (failureBackoff == null) {
+                failureBackoff = Duration.ofSeconds(5);
+            }
         }
     }
 }
@@ -0,0 +1,24 @@
+package com.cobalt.common.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "cobalt.security.refresh-tokens")
+public record RefreshTokenProperties(
+    long expectedRevocations,
+    double falsePositiveRate,
+    Duration rebuildInterval
+) {
+
+    public RefreshTokenProperties {
+        if (expectedRevocations <= 0) {
+            expectedRevocations = 500_000;
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            falsePositiveRate = 0.01;
+        }
+        if (rebuildInterval == null || rebuildInterval.isZero() || rebuildInterval.isNegative()) {
+            rebuildInterval = Duration.ofHours(1);
+        }
+    }
+}
@@ -1,9 +1,20 @@
 package com.cobalt.common.config;
 
+import com.cobalt.common.metrics.PhaseTimers;
+import com.cobalt.common.metrics.TimedFilter;
+import com.cobalt.common.security.BCryptCostCalibrator;
+import com.cobalt.common.security.ClientIpBlocklistFilter;
+import com.cobalt.common.security.ConcurrencyLimitFilter;
 import com.cobalt.common.security.JwtAuthenticationFilter;
 import com.cobalt.common.security.RateLimitFilter;
+import com.cobalt.common.security.TenantBulkheadFilter;
 import com.cobalt.common.security.TenantRateLimitFilter;
+import com.cobalt.common.tracing.RequestIds;
+import com.cobalt.common.tracing.TraceParent;
+import jakarta.servlet.DispatcherType;
 import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,7 +25,9 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.DefaultSecurityFilterChain;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -24,29 +37,48 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @Configuration
 @EnableWebSecurity
 @EnableScheduling
-@EnableConfigurationProperties({RateLimitProperties.class, CorsProperties.class})
+@EnableConfigurationProperties({
+    RateLimitProperties.class,
+    ConcurrencyLimitProperties.class,
+    BulkheadProperties.class,
+    ClientIpProperties.class,
+    CorsProperties.class,
+    TokenVerificationProperties.class,
+    PasswordHashingProperties.class,
+    RefreshTokenProperties.class
+})
 public class SecurityConfig {
 
+    private final ClientIpBlocklistFilter clientIpBlocklistFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
     private final JwtAuthenticationFilter jwtFilter;
     private final RateLimitFilter rateLimitFilter;
     private final TenantRateLimitFilter tenantRateLimitFilter;
+    private final TenantBulkheadFilter tenantBulkheadFilter;
     private final CorsProperties corsProperties;
 
     public SecurityConfig(
+        ClientIpBlocklistFilter clientIpBlocklistFilter,
+        ConcurrencyLimitFilter concurrencyLimitFilter,
         JwtAuthenticationFilter jwtFilter,
         RateLimitFilter rateLimitFilter,
         TenantRateLimitFilter tenantRateLimitFilter,
+        TenantBulkheadFilter tenantBulkheadFilter,
         CorsProperties corsProperties
     ) {
+        this.clientIpBlocklistFilter = clientIpBlocklistFilter;
+        this.concurrencyLimitFilter = concurrencyLimitFilter;
         this.jwtFilter = jwtFilter;
         this.rateLimitFilter = rateLimitFilter;
         this.tenantRateLimitFilter = tenantRateLimitFilter;
+        this.tenantBulkheadFilter = tenantBulkheadFilter;
         this.corsProperties = corsProperties;
     }
 
     @Bean
     public SecurityFilterChain securityFilterChain(
-        HttpSecurity http
+        HttpSecurity http,
+        ObjectProvider<PhaseTimers> phaseTimers
     ) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)
@@ -57,12 +89,24 @@ public class SecurityConfig {
                 )
             )
             .authorizeHttpRequests(auth -> auth
+                // Async dispatches finish responses (e.g. streamed bodies) of requests
+                // that were already authorized; the stateless context is not re-loaded
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/api/v1/auth/**").permitAll()
                 .requestMatchers("/actuator/health/**").permitAll()
                 .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                 .anyRequest().authenticated()
             )
+            .addFilterBefore(
+                clientIpBlocklistFilter,
+                UsernamePasswordAuthenticationFilter.class
+            )
+            // Sheds excess load before any authentication or rate limit work
+            .addFilterBefore(
+                concurrencyLimitFilter,
+                UsernamePasswordAuthenticationFilter.class
+            )
             .addFilterBefore(
                 rateLimitFilter,
                 UsernamePasswordAuthenticationFilter.class
@@ -74,9 +118,21 @@ public class SecurityConfig {
             .addFilterAfter(
                 tenantRateLimitFilter,
                 JwtAuthenticationFilter.class
+            )
+            .addFilterAfter(
+                tenantBulkheadFilter,
+                TenantRateLimitFilter.class
             );
 
-        return http.build();
+        DefaultSecurityFilterChain chain = http.build();
+        PhaseTimers timers = phaseTimers.getIfAvailable();
+        if (timers == null) {
+            return chain;
+        }
+        return new DefaultSecurityFilterChain(
+            chain.getRequestMatcher(),
+            TimedFilter.wrapAll(chain.getFilters(), timers)
+        );
     }
 
     @Bean
@@ -86,9 +142,11 @@ public class SecurityConfig {
         configuration.setAllowedMethods(
             List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
         );
-        configuration.setAllowedHeaders(
-            List.of("Authorization", "Content-Type", "Accept", "Origin")
-        );
+        configuration.setAllowedHeaders(List.of(
+            "Authorization", "Content-Type", "Accept", "Origin",
+            RequestIds.HEADER, TraceParent.HEADER
+        ));
+        configuration.setExposedHeaders(List.of(RequestIds.HEADER));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
         UrlBasedCorsConfigurationSource source =
@@ -98,7 +156,18 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+        PasswordHashingProperties passwordHashingProperties
+    ) {
+        int cost = BCryptCostCalibrator.resolveCost(
+            passwordHashingProperties.calibration()
+        );
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(cost);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(
+            "bcrypt", Map.of("bcrypt", bcrypt)
+        );
+        // Hashes stored before the {bcrypt} prefix was introduced are plain BCrypt
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 }
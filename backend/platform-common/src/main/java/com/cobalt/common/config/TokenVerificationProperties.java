@@ -0,0 +1,34 @@
+package com.cobalt.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "cobalt.security.token-verification")
+public record TokenVerificationProperties(
+    Cache cache,
+    Compact compact
+) {
+
+    public TokenVerificationProperties {
+        if (cache == null) {
+            cache = new Cache(true, 50_000);
+        }
+        if (compact == null) {
+            compact = new Compact(false);
+        }
+    }
+
+    public record Cache(Boolean enabled, long maximumSize) {
+
+        public Cache {
+            if (enabled == null) {
+                enabled = true;
+            }
+            if (maximumSize <= 0) {
+                maximumSize = 50_000;
+            }
+        }
+    }
+
+    public record Compact(boolean enabled) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.cobalt.common.config;
+
+import com.cobalt.common.tracing.TracePropagationInterceptor;
+import org.springframework.boot.web.client.RestClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TracingConfig {
+
+    // Applied to every RestClient built from the auto-configured RestClient.Builder
+    @Bean
+    public RestClientCustomizer tracePropagationRestClientCustomizer() {
+        TracePropagationInterceptor interceptor = new TracePropagationInterceptor();
+        return builder -> builder.requestInterceptor(interceptor);
+    }
+}
@@ -0,0 +1,213 @@
+package com.cobalt.common.datasource;
+
+import com.cobalt.common.config.DatabaseAdmissionProperties;
+import com.cobalt.common.security.TenantContext;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+// Puts TenantConnectionAdmission in front of the pool for requests that carry a tenant.
+// Work without a tenant (startup, scheduled jobs, logins) and connections a thread takes
+// while it already holds an admitted one go straight to the pool, so nested transactions
+// cannot wait on their own tenant's limit. Tasks wrapped with underCurrentAdmission share
+// the admission of the thread that wrapped them in the same way.
+public class TenantAdmissionDataSource extends DelegatingDataSource {
+
+    private static final ThreadLocal<int[]> HELD = ThreadLocal.withInitial(() -> new int[1]);
+    private static final String OTHER_TENANTS = "other";
+
+    private final TenantConnectionAdmission admission;
+    private final DatabaseAdmissionProperties properties;
+    private final ObjectProvider<TenantPlanResolver> planResolverProvider;
+    private final MeterRegistry meterRegistry;
+    private final long maxWaitNanos;
+    private final Map<String, Timer> waitTimers = new ConcurrentHashMap<>();
+    private volatile TenantPlanResolver planResolver;
+
+    public TenantAdmissionDataSource(
+        DataSource target,
+        int permits,
+        DatabaseAdmissionProperties properties,
+        ObjectProvider<TenantPlanResolver> planResolver,
+        MeterRegistry meterRegistry
+    ) {
+        super(target);
+        this.admission = new TenantConnectionAdmission(permits, properties.perTenantLimit());
+        this.properties = properties;
+        this.planResolverProvider = planResolver;
+        this.meterRegistry = meterRegistry;
+        this.maxWaitNanos = properties.maxWait().toNanos();
+
+        Gauge.builder("cobalt.db.admission.active", admission, TenantConnectionAdmission::inUse)
+            .description("Connections held by tenant requests")
+            .register(meterRegistry);
+        Gauge.builder("cobalt.db.admission.waiting", admission, TenantConnectionAdmission::waiting)
+            .description("Tenant requests waiting for a connection")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        UUID tenantId = TenantContext.getCurrentTenantId();
+        if (tenantId == null || HELD.get()[0] > 0) {
+            return super.getConnection();
+        }
+        admit(tenantId);
+        return admitted(tenantId, () -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        UUID tenantId = TenantContext.getCurrentTenantId();
+        if (tenantId == null || HELD.get()[0] > 0) {
+            return super.getConnection(username, password);
+        }
+        admit(tenantId);
+        return admitted(tenantId, () -> super.getConnection(username, password));
+    }
+
+    // For tasks the calling thread waits on while holding an admitted connection: they
+    // charge against its admission instead of queueing behind it for their own permits
+    public static <T> Callable<T> underCurrentAdmission(Callable<T> task) {
+        if (HELD.get()[0] == 0) {
+            return task;
+        }
+        return () -> {
+            int[] held = HELD.get();
+            held[0]++;
+            try {
+                return task.call();
+            } finally {
+                held[0]--;
+            }
+        };
+    }
+
+    private void admit(UUID tenantId) throws SQLException {
+        int weight = properties.weightFor(planResolver().planFor(tenantId));
+        long start = System.nanoTime();
+        boolean admitted;
+        try {
+            admitted = admission.acquire(tenantId, weight, maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        waitTimer(tenantId, admitted).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (!admitted) {
+            throw new SQLTransientConnectionException(
+                "Tenant " + tenantId + " waited more than " + properties.maxWait()
+                    + " for a database connection"
+            );
+        }
+    }
+
+    // The resolver usually reads plans through this DataSource, so it is looked up on the
+    // first tenant connection rather than while the DataSource itself is being wrapped
+    private TenantPlanResolver planResolver() {
+        TenantPlanResolver resolver = planResolver;
+        if (resolver == null) {
+            resolver = planResolverProvider.getIfAvailable(() -> tenantId -> null);
+            planResolver = resolver;
+        }
+        return resolver;
+    }
+
+    private Connection admitted(UUID tenantId, ConnectionSource source) throws SQLException {
+        Connection connection;
+        try {
+            connection = source.get();
+        } catch (SQLException | RuntimeException e) {
+            admission.release(tenantId);
+            throw e;
+        }
+        HELD.get()[0]++;
+        return (Connection) Proxy.newProxyInstance(
+            ConnectionProxy.class.getClassLoader(),
+            new Class<?>[] {ConnectionProxy.class},
+            new AdmittedConnection(connection, tenantId)
+        );
+    }
+
+    // Per-tenant histograms for the first taggedTenants tenants seen; a bounded tag set
+    // keeps the registry from growing with the tenant count
+    private Timer waitTimer(UUID tenantId, boolean admitted) {
+        String tenant = tenantId.toString();
+        if (!waitTimers.containsKey(tenant + admitted)
+            && waitTimers.size() >= properties.taggedTenants() * 2) {
+            tenant = OTHER_TENANTS;
+        }
+        String tag = tenant;
+        return waitTimers.computeIfAbsent(tag + admitted, key ->
+            Timer.builder("cobalt.db.admission.wait")
+                .description("Time tenant requests waited for a database connection")
+                .tag("tenant", tag)
+                .tag("outcome", admitted ? "admitted" : "timeout")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+        );
+    }
+
+    // Returns the admission permit when the connection goes back to the pool
+    private final class AdmittedConnection implements InvocationHandler {
+
+        private final Connection target;
+        private final UUID tenantId;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        AdmittedConnection(Connection target, UUID tenantId) {
+            this.target = target;
+            this.tenantId = tenantId;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getTargetConnection":
+                    return target;
+                case "close":
+                    if (closed.compareAndSet(false, true)) {
+                        HELD.get()[0]--;
+                        try {
+                            target.close();
+                        } finally {
+                            admission.release(tenantId);
+                        }
+                    }
+                    return null;
+                default:
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection get() throws SQLException;
+    }
+}
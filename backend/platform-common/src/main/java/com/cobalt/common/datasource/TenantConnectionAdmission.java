@@ -0,0 +1,180 @@
+package com.cobalt.common.datasource;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Weighted fair queue in front of a fixed number of connections. While connections are
+// free, tenants are admitted immediately up to their per-tenant limit. Once they are all in
+// use, waiters are served by stride scheduling: each tenant's pass advances by 1/weight per
+// admitted connection and the waiting tenant with the lowest pass goes next, so a tenant
+// with many queued requests gets its weighted share and nothing more.
+public class TenantConnectionAdmission {
+
+    private final int permits;
+    private final int perTenantLimit;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<UUID, TenantQueue> tenants = new HashMap<>();
+    // Tenants with waiters that are below their own limit
+    private final PriorityQueue<TenantQueue> ready =
+        new PriorityQueue<>(Comparator.comparingDouble(tenant -> tenant.pass));
+    private int inUse;
+    private int waiting;
+    private double virtualTime;
+
+    public TenantConnectionAdmission(int permits, int perTenantLimit) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("Permits must be positive: " + permits);
+        }
+        this.permits = permits;
+        this.perTenantLimit = Math.min(perTenantLimit, permits);
+    }
+
+    public boolean acquire(UUID tenantId, int weight, long timeout, TimeUnit unit)
+        throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            TenantQueue tenant = tenants.computeIfAbsent(tenantId, TenantQueue::new);
+            tenant.weight = weight;
+            if (inUse < permits && ready.isEmpty() && tenant.active < perTenantLimit) {
+                // Idle tenants do not bank credit for later
+                tenant.pass = Math.max(tenant.pass, virtualTime);
+                admit(tenant);
+                return true;
+            }
+
+            Waiter waiter = new Waiter(lock.newCondition());
+            tenant.waiters.add(waiter);
+            waiting++;
+            if (tenant.waiters.size() == 1 && tenant.active < perTenantLimit) {
+                tenant.pass = Math.max(tenant.pass, virtualTime);
+                ready.add(tenant);
+            }
+
+            long remaining = unit.toNanos(timeout);
+            try {
+                while (!waiter.admitted) {
+                    if (remaining <= 0) {
+                        abandon(tenant, waiter);
+                        return false;
+                    }
+                    remaining = waiter.condition.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                if (waiter.admitted) {
+                    // Admitted concurrently with the interrupt; hand the permit on
+                    release(tenant);
+                } else {
+                    abandon(tenant, waiter);
+                }
+                throw e;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(UUID tenantId) {
+        lock.lock();
+        try {
+            TenantQueue tenant = tenants.get(tenantId);
+            if (tenant != null) {
+                release(tenant);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int inUse() {
+        lock.lock();
+        try {
+            return inUse;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int waiting() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(TenantQueue tenant) {
+        inUse--;
+        tenant.active--;
+        if (tenant.active == perTenantLimit - 1 && !tenant.waiters.isEmpty()) {
+            ready.add(tenant);
+        }
+        dispatch();
+        if (tenant.active == 0 && tenant.waiters.isEmpty()) {
+            tenants.remove(tenant.id);
+        }
+    }
+
+    private void dispatch() {
+        while (inUse < permits && !ready.isEmpty()) {
+            TenantQueue next = ready.poll();
+            Waiter waiter = next.waiters.poll();
+            waiting--;
+            virtualTime = next.pass;
+            admit(next);
+            waiter.admitted = true;
+            waiter.condition.signal();
+            if (!next.waiters.isEmpty() && next.active < perTenantLimit) {
+                ready.add(next);
+            }
+        }
+    }
+
+    private void admit(TenantQueue tenant) {
+        inUse++;
+        tenant.active++;
+        tenant.pass += 1.0 / tenant.weight;
+    }
+
+    private void abandon(TenantQueue tenant, Waiter waiter) {
+        tenant.waiters.remove(waiter);
+        waiting--;
+        if (tenant.waiters.isEmpty()) {
+            ready.remove(tenant);
+            if (tenant.active == 0) {
+                tenants.remove(tenant.id);
+            }
+        }
+    }
+
+    private static final class TenantQueue {
+
+        private final UUID id;
+        private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+        private int weight = 1;
+        private int active;
+        private double pass;
+
+        TenantQueue(UUID id) {
+            this.id = id;
+        }
+    }
+
+    private static final class Waiter {
+
+        private final Condition condition;
+        private boolean admitted;
+
+        Waiter(Condition condition) {
+            this.condition = condition;
+        }
+    }
+}
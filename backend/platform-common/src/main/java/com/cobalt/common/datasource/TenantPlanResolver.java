@@ -0,0 +1,12 @@
+package com.cobalt.common.datasource;
+
+import java.util.UUID;
+
+// Supplies the subscription plan that weights a tenant's share of database connections.
+// Called while a connection is being acquired, so it must not itself block on the database.
+@FunctionalInterface
+public interface TenantPlanResolver {
+
+    // null when the plan is not known (yet)
+    String planFor(UUID tenantId);
+}
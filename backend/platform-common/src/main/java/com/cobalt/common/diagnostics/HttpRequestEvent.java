@@ -0,0 +1,26 @@
+package com.cobalt.common.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("cobalt.HttpRequest")
+@Label("HTTP Request")
+@Category({"Cobalt", "Web"})
+@Description("An HTTP request from the first filter until the response is complete")
+public final class HttpRequestEvent extends Event {
+
+    @Label("Request ID")
+    public String requestId;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Status")
+    public int status;
+}
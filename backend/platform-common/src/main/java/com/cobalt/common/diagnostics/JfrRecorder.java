@@ -0,0 +1,194 @@
+package com.cobalt.common.diagnostics;
+
+import com.cobalt.common.config.JfrProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+// Keeps a rolling JFR recording of the last few minutes and writes it to disk when a
+// request is slow or an operator asks for it. The "default" settings profile is designed
+// for continuous use in production (about 1% overhead).
+public class JfrRecorder {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JfrRecorder.class);
+
+    private static final String SUFFIX = ".jfr";
+    private static final Pattern SNAPSHOT_NAME = Pattern.compile("[A-Za-z0-9_-]{1,128}\\.jfr");
+    private static final DateTimeFormatter FILE_TIME =
+        DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+
+    private final Path directory;
+    private final int maxSnapshots;
+    private final long captureDelayMillis;
+    private final long minIntervalMillis;
+    private final Recording recording;
+    private final ScheduledExecutorService captures;
+    private final ReentrantLock dumpLock = new ReentrantLock();
+    private final AtomicLong nextSlowCaptureAt = new AtomicLong();
+    private final Counter slowCaptures;
+    private final Counter manualCaptures;
+
+    public JfrRecorder(
+        JfrProperties properties,
+        MeterRegistry meterRegistry
+    ) throws IOException, ParseException {
+        this.directory = properties.directory();
+        this.maxSnapshots = properties.maxSnapshots();
+        this.captureDelayMillis = properties.captureDelay().toMillis();
+        this.minIntervalMillis = properties.minInterval().toMillis();
+
+        this.recording = new Recording(Configuration.getConfiguration(properties.settings()));
+        recording.setName("cobalt-continuous");
+        recording.setToDisk(true);
+        recording.setMaxAge(properties.window());
+        recording.setMaxSize(properties.maxSize().toBytes());
+        recording.enable(HttpRequestEvent.class).withoutStackTrace();
+        recording.enable(TokenVerificationEvent.class).withoutStackTrace();
+        recording.enable(RateLimitDecisionEvent.class).withoutStackTrace();
+        // The stack shows which service method issued the query
+        recording.enable(RepositoryCallEvent.class).withStackTrace();
+        // Snapshots can be downloaded over HTTP: leave out events that copy the environment,
+        // system properties or JVM arguments, where passwords and API keys usually live
+        recording.disable("jdk.InitialEnvironmentVariable");
+        recording.disable("jdk.InitialSystemProperty");
+        recording.disable("jdk.JVMInformation");
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("jfr-snapshot-");
+        threadFactory.setDaemon(true);
+        this.captures = new ScheduledThreadPoolExecutor(1, threadFactory);
+
+        this.slowCaptures = Counter.builder("cobalt.jfr.snapshots")
+            .description("JFR snapshots written to disk")
+            .tag("trigger", "slow-request")
+            .register(meterRegistry);
+        this.manualCaptures = Counter.builder("cobalt.jfr.snapshots")
+            .description("JFR snapshots written to disk")
+            .tag("trigger", "manual")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        Files.createDirectories(directory);
+        recording.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        captures.shutdownNow();
+        recording.close();
+    }
+
+    // Schedules a snapshot unless one was already taken within minInterval, so a burst of
+    // slow requests produces one file rather than one per request
+    public boolean onSlowRequest(String requestId) {
+        long now = System.currentTimeMillis();
+        long next = nextSlowCaptureAt.get();
+        if (now < next || !nextSlowCaptureAt.compareAndSet(next, now + minIntervalMillis)) {
+            return false;
+        }
+        String name = "slow-" + FILE_TIME.format(Instant.ofEpochMilli(now))
+            + "-" + fileSafe(requestId) + SUFFIX;
+        captures.schedule(() -> {
+            try {
+                dump(name);
+                slowCaptures.increment();
+            } catch (IOException | RuntimeException e) {
+                LOG.warn("Could not write JFR snapshot {}", name, e);
+            }
+        }, captureDelayMillis, TimeUnit.MILLISECONDS);
+        return true;
+    }
+
+    public Snapshot snapshot() throws IOException {
+        Snapshot snapshot = dump("manual-" + FILE_TIME.format(Instant.now()) + SUFFIX);
+        manualCaptures.increment();
+        return snapshot;
+    }
+
+    // Newest first
+    public List<Snapshot> snapshots() throws IOException {
+        List<Snapshot> snapshots = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (SNAPSHOT_NAME.matcher(file.getFileName().toString()).matches()) {
+                    snapshots.add(Snapshot.of(file));
+                }
+            }
+        }
+        snapshots.sort(Comparator.comparing(Snapshot::createdAt).reversed());
+        return snapshots;
+    }
+
+    // Only names of files this recorder wrote resolve, so the endpoint cannot be used to
+    // read anything else on disk
+    public Path find(String name) {
+        if (name == null || !SNAPSHOT_NAME.matcher(name).matches()) {
+            return null;
+        }
+        Path file = directory.resolve(name);
+        return Files.isRegularFile(file) ? file : null;
+    }
+
+    private Snapshot dump(String name) throws IOException {
+        dumpLock.lock();
+        try {
+            Path file = directory.resolve(name);
+            recording.dump(file);
+            prune();
+            return Snapshot.of(file);
+        } finally {
+            dumpLock.unlock();
+        }
+    }
+
+    private void prune() throws IOException {
+        List<Snapshot> snapshots = snapshots();
+        for (Snapshot stale : snapshots.subList(Math.min(maxSnapshots, snapshots.size()),
+            snapshots.size())) {
+            Files.deleteIfExists(directory.resolve(stale.name()));
+        }
+    }
+
+    private static String fileSafe(String requestId) {
+        if (requestId == null) {
+            return "unknown";
+        }
+        String safe = requestId.replaceAll("[^A-Za-z0-9-]", "_");
+        return safe.length() > 64 ? safe.substring(0, 64) : safe;
+    }
+
+    public record Snapshot(String name, long sizeBytes, Instant createdAt) {
+
+        static Snapshot of(Path file) throws IOException {
+            return new Snapshot(
+                file.getFileName().toString(),
+                Files.size(file),
+                Files.getLastModifiedTime(file).toInstant()
+            );
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.cobalt.common.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("cobalt.RateLimitDecision")
+@Label("Rate Limit Decision")
+@Category({"Cobalt", "Security"})
+@Description("A request checked against a rate limiter")
+public final class RateLimitDecisionEvent extends Event {
+
+    @Label("Limiter")
+    public String limiter;
+
+    @Label("Key")
+    public String key;
+
+    @Label("Allowed")
+    public boolean allowed;
+
+    @Label("Retry After")
+    @Timespan(Timespan.MILLISECONDS)
+    public long retryAfterMillis;
+
+    public static void record(String limiter, Object key, long retryAfterMillis) {
+        RateLimitDecisionEvent event = new RateLimitDecisionEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.limiter = limiter;
+        event.key = String.valueOf(key);
+        event.allowed = retryAfterMillis <= 0;
+        event.retryAfterMillis = Math.max(0, retryAfterMillis);
+        event.commit();
+    }
+}
@@ -0,0 +1,40 @@
+package com.cobalt.common.diagnostics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+// GET /actuator/recordings: JFR snapshots on disk, newest first
+// GET /actuator/recordings/{name}: download one; open it in JDK Mission Control
+// POST /actuator/recordings: snapshot the continuous recording now
+@Endpoint(id = "recordings")
+public class RecordingsEndpoint {
+
+    private final JfrRecorder recorder;
+
+    public RecordingsEndpoint(JfrRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public List<JfrRecorder.Snapshot> snapshots() throws IOException {
+        return recorder.snapshots();
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public Resource download(@Selector String name) {
+        Path file = recorder.find(name);
+        return file != null ? new FileSystemResource(file) : null;
+    }
+
+    @WriteOperation
+    public JfrRecorder.Snapshot snapshot() throws IOException {
+        return recorder.snapshot();
+    }
+}
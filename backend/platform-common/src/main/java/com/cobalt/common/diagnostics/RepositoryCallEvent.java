@@ -0,0 +1,23 @@
+package com.cobalt.common.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("cobalt.RepositoryCall")
+@Label("Repository Call")
+@Category({"Cobalt", "Data"})
+@Description("A call to a Spring Data repository method")
+public final class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,33 @@
+package com.cobalt.common.diagnostics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+// Added to every Spring Data repository proxy; one RepositoryCallEvent per call
+public class RepositoryCallInterceptor implements MethodInterceptor {
+
+    private final String repository;
+
+    public RepositoryCallInterceptor(Class<?> repositoryInterface) {
+        this.repository = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+        event.begin();
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            event.failed = true;
+            throw e;
+        } finally {
+            event.repository = repository;
+            event.method = invocation.getMethod().getName();
+            event.commit();
+        }
+    }
+}
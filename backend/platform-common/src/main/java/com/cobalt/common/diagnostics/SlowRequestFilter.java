@@ -0,0 +1,59 @@
+package com.cobalt.common.diagnostics;
+
+import com.cobalt.common.tracing.RequestIds;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// Runs just inside RequestContextFilter, so the request ID is in MDC and the whole
+// security chain is inside the measured time. Async requests are timed until the first
+// dispatch returns: async redispatches skip this filter, so their streaming time is not
+// treated as slowness.
+public class SlowRequestFilter extends OncePerRequestFilter implements Ordered {
+
+    private final JfrRecorder recorder;
+    private final long thresholdNanos;
+
+    public SlowRequestFilter(JfrRecorder recorder, long thresholdNanos) {
+        this.recorder = recorder;
+        this.thresholdNanos = thresholdNanos;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        HttpRequestEvent event = new HttpRequestEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            String requestId = MDC.get(RequestIds.MDC_KEY);
+            event.end();
+            if (event.shouldCommit()) {
+                event.requestId = requestId;
+                event.method = request.getMethod();
+                event.path = request.getRequestURI();
+                event.status = response.getStatus();
+                event.commit();
+            }
+            if (elapsed >= thresholdNanos) {
+                recorder.onSlowRequest(requestId);
+            }
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+}
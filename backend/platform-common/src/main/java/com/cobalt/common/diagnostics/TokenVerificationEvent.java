@@ -0,0 +1,20 @@
+package com.cobalt.common.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("cobalt.TokenVerification")
+@Label("Token Verification")
+@Category({"Cobalt", "Security"})
+@Description("Access token check, answered from the verified-token cache or by verifying it")
+public final class TokenVerificationEvent extends Event {
+
+    @Label("Cache Hit")
+    public boolean cacheHit;
+
+    @Label("Valid")
+    public boolean valid;
+}
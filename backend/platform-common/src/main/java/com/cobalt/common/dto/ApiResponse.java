@@ -1,8 +1,8 @@
 package com.cobalt.common.dto;
 
+import com.cobalt.common.tracing.RequestIds;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.Instant;
-import java.util.UUID;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public record ApiResponse<T>(
@@ -10,8 +10,9 @@ public record ApiResponse<T>(
     Meta meta
 ) {
 
+    // meta.requestId matches the X-Request-ID response header and the request's log lines
     public static <T> ApiResponse<T> of(T data) {
-        return new ApiResponse<>(data, new Meta(Instant.now(), UUID.randomUUID().toString()));
+        return new ApiResponse<>(data, new Meta(Instant.now(), RequestIds.current()));
     }
 
     public record Meta(
@@ -109,6 +109,28 @@ public class GlobalExceptionHandler {
             .body(problem);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ProblemDetail> handleServiceUnavailable(
+        ServiceUnavailableException ex
+    ) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+            HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage()
+        );
+        problem.setTitle("Service Unavailable");
+        problem.setType(
+            URI.create("https://cobalt.com/errors/service-unavailable")
+        );
+        problem.setProperty("timestamp", Instant.now());
+        problem.setProperty("retryAfterSeconds", ex.getRetryAfterSeconds());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Retry-After", String.valueOf(ex.getRetryAfterSeconds()));
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .headers(headers)
+            .body(problem);
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ProblemDetail handleAccessDenied(AccessDeniedException ex) {
         ProblemDetail problem = ProblemDetail.forStatusAndDetail(
@@ -0,0 +1,59 @@
+package com.cobalt.common.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+// Times the controller: from handler selection until the response is complete, minus the
+// serialization time TimedJacksonHttpMessageConverter charged to the same request.
+// Requests that go async are not sampled; their duration is the stream, not the handler.
+public class PhaseTimingInterceptor implements AsyncHandlerInterceptor {
+
+    static final String PHASES_ATTRIBUTE = PhaseTimingInterceptor.class.getName() + ".phases";
+
+    private final PhaseTimers.PhaseTimer handlerTimer;
+
+    public PhaseTimingInterceptor(PhaseTimers phaseTimers) {
+        this.handlerTimer = phaseTimers.timer("handler", "controller");
+    }
+
+    @Override
+    public boolean preHandle(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        Object handler
+    ) {
+        RequestPhases phases = new RequestPhases();
+        phases.handlerStart = System.nanoTime();
+        request.setAttribute(PHASES_ATTRIBUTE, phases);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        Object handler
+    ) {
+        request.removeAttribute(PHASES_ATTRIBUTE);
+    }
+
+    @Override
+    public void afterCompletion(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        Object handler,
+        Exception ex
+    ) {
+        if (request.getAttribute(PHASES_ATTRIBUTE) instanceof RequestPhases phases) {
+            handlerTimer.record(
+                System.nanoTime() - phases.handlerStart - phases.serializationNanos
+            );
+        }
+    }
+
+    static final class RequestPhases {
+        long handlerStart;
+        long serializationNanos;
+    }
+}
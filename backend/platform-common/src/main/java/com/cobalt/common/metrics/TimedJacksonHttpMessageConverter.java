@@ -0,0 +1,43 @@
+package com.cobalt.common.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+// Replaces Boot's JSON converter so writing a response body is timed as its own phase
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final PhaseTimers.PhaseTimer serializationTimer;
+
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper, PhaseTimers phaseTimers) {
+        super(objectMapper);
+        this.serializationTimer = phaseTimers.timer("serialization", "json");
+    }
+
+    @Override
+    protected void writeInternal(
+        Object object,
+        Type type,
+        HttpOutputMessage outputMessage
+    ) throws IOException, HttpMessageNotWritableException {
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            long nanos = System.nanoTime() - start;
+            serializationTimer.record(nanos);
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            if (attributes != null
+                && attributes.getAttribute(
+                    PhaseTimingInterceptor.PHASES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST
+                ) instanceof PhaseTimingInterceptor.RequestPhases phases) {
+                phases.serializationNanos += nanos;
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.cobalt.common.security;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Gradient concurrency limit driven by observed latency. Each window of samples compares
+// the window's average latency with a slow-moving baseline: while requests are no slower
+// than tolerance x baseline the limit grows by about sqrt(limit) per window, and once
+// they slow down it shrinks in proportion. Queueing downstream (e.g. for pool connections)
+// therefore turns into early rejections instead of requests piling up until they time out.
+public class AdaptiveConcurrencyLimit {
+
+    private static final double BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final int sampleWindow;
+    private final double baselineWeight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // Samples are statistical, so a thread that finds an update in progress skips its own
+    // sample instead of waiting for the lock
+    private final ReentrantLock update = new ReentrantLock();
+    private double estimatedLimit;
+    private double baselineNanos;
+    private long windowNanos;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private boolean windowDropped;
+
+    public AdaptiveConcurrencyLimit(
+        int initialLimit,
+        int minLimit,
+        int maxLimit,
+        double tolerance,
+        double smoothing,
+        int sampleWindow,
+        int longWindow
+    ) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.sampleWindow = sampleWindow;
+        this.baselineWeight = 2.0 / (longWindow + 1);
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // dropped: the request failed in a way that signals overload, e.g. a timeout
+    public void release(long latencyNanos, boolean dropped) {
+        int inFlightBeforeRelease = inFlight.getAndDecrement();
+        if (!update.tryLock()) {
+            return;
+        }
+        try {
+            windowNanos += latencyNanos;
+            windowSamples++;
+            windowMaxInFlight = Math.max(windowMaxInFlight, inFlightBeforeRelease);
+            windowDropped |= dropped;
+            if (windowSamples >= sampleWindow) {
+                updateLimit();
+            }
+        } finally {
+            update.unlock();
+        }
+    }
+
+    // Frees the slot without a latency sample, for requests whose duration says nothing
+    // about load, such as long-lived streamed responses
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private void updateLimit() {
+        double shortNanos = (double) windowNanos / windowSamples;
+        baselineNanos = baselineNanos == 0
+            ? shortNanos
+            : baselineNanos + (shortNanos - baselineNanos) * baselineWeight;
+        // A baseline far above current latency is stale, e.g. after a slow warm-up
+        if (baselineNanos > shortNanos * 2) {
+            baselineNanos *= 0.95;
+        }
+
+        double target;
+        if (windowDropped) {
+            target = estimatedLimit * BACKOFF;
+        } else if (windowMaxInFlight < estimatedLimit / 2) {
+            // Demand is well below the limit, so latency says nothing about the limit
+            target = estimatedLimit;
+        } else {
+            double gradient = Math.max(0.5, Math.min(1.0,
+                tolerance * baselineNanos / Math.max(1.0, shortNanos)));
+            target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        }
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit,
+            estimatedLimit * (1 - smoothing) + target * smoothing));
+        limit = (int) estimatedLimit;
+
+        windowNanos = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+        windowDropped = false;
+    }
+}
@@ -0,0 +1,56 @@
+package com.cobalt.common.security;
+
+import com.cobalt.common.config.PasswordHashingProperties;
+import java.time.Duration;
+import java.util.Arrays;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+public final class BCryptCostCalibrator {
+
+    private static final Logger LOG =
+        LoggerFactory.getLogger(BCryptCostCalibrator.class);
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+
+    private BCryptCostCalibrator() {
+    }
+
+    public static int resolveCost(PasswordHashingProperties.Calibration calibration) {
+        if (!calibration.enabled()) {
+            return calibration.minimumCost();
+        }
+
+        long targetNanos = calibration.targetLatency().toNanos();
+        int chosen = calibration.minimumCost();
+        for (int cost = calibration.minimumCost(); cost <= calibration.maximumCost(); cost++) {
+            long p50 = medianHashNanos(cost, calibration.samples());
+            LOG.info(
+                "BCrypt cost {} p50 {} ms (target {} ms)",
+                cost, Duration.ofNanos(p50).toMillis(), calibration.targetLatency().toMillis()
+            );
+            if (p50 > targetNanos) {
+                break;
+            }
+            chosen = cost;
+        }
+
+        LOG.info("Using calibrated BCrypt cost {}", chosen);
+        return chosen;
+    }
+
+    public static long medianHashNanos(int cost, int samples) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        encoder.encode(SAMPLE_PASSWORD);
+
+        long[] durations = new long[samples];
+        for (int i = 0; i < samples; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            durations[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(durations);
+        return durations[samples / 2];
+    }
+}
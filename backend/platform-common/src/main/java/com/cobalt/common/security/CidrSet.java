@@ -0,0 +1,172 @@
+package com.cobalt.common.security;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.BitSet;
+
+// Binary trie over address bits with one root per address family, stored in flat int
+// arrays so half a million prefixes stay compact. A lookup walks at most prefix-length
+// nodes and stops at the first prefix that covers the address. Not safe for concurrent
+// adds; build a set completely, then publish it.
+public final class CidrSet {
+
+    private static final int IPV4_ROOT = 0;
+    private static final int IPV6_ROOT = 1;
+
+    // children[2 * node + bit]; 0 means no child, since the roots are never children
+    private int[] children = new int[1024];
+    private final BitSet covered = new BitSet();
+    private int nodes = 2;
+    private int size;
+
+    public static CidrSet of(Iterable<String> cidrs) {
+        CidrSet set = new CidrSet();
+        for (String cidr : cidrs) {
+            set.add(cidr);
+        }
+        return set;
+    }
+
+    // Accepts "address/prefix" or a bare address, IPv4 or IPv6
+    public void add(String cidr) {
+        String text = cidr.trim();
+        int slash = text.indexOf('/');
+        InetAddress address = parseAddress(slash < 0 ? text : text.substring(0, slash));
+        if (address == null) {
+            throw new IllegalArgumentException("Not an IP address or CIDR: " + cidr);
+        }
+        byte[] bytes = address.getAddress();
+        int maxBits = bytes.length * 8;
+        int prefix;
+        try {
+            prefix = slash < 0 ? maxBits : Integer.parseInt(text.substring(slash + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid prefix length: " + cidr, e);
+        }
+        if (prefix < 0 || prefix > maxBits) {
+            throw new IllegalArgumentException("Invalid prefix length: " + cidr);
+        }
+
+        int node = bytes.length == 4 ? IPV4_ROOT : IPV6_ROOT;
+        for (int i = 0; i < prefix; i++) {
+            if (covered.get(node)) {
+                // Already covered by a shorter prefix
+                return;
+            }
+            int slot = 2 * node + bit(bytes, i);
+            int child = children[slot];
+            if (child == 0) {
+                // Allocate first: newNode() may replace the children array
+                child = newNode();
+                children[slot] = child;
+            }
+            node = child;
+        }
+        if (!covered.get(node)) {
+            covered.set(node);
+            size++;
+        }
+    }
+
+    public boolean contains(InetAddress address) {
+        byte[] bytes = address.getAddress();
+        int node = bytes.length == 4 ? IPV4_ROOT : IPV6_ROOT;
+        int bits = bytes.length * 8;
+        for (int i = 0; ; i++) {
+            if (covered.get(node)) {
+                return true;
+            }
+            if (i == bits) {
+                return false;
+            }
+            node = children[2 * node + bit(bytes, i)];
+            if (node == 0) {
+                return false;
+            }
+        }
+    }
+
+    // Prefixes added, not counting ones inside a shorter prefix added earlier
+    public int size() {
+        return size;
+    }
+
+    // Parses IP literals only: request headers are client-controlled and must never
+    // trigger a DNS lookup. IPv4 is decoded here; IPv6 is restricted to hex digits, colons
+    // and an embedded dotted quad, then bracketed so InetAddress only ever parses it.
+    // Returns null for anything that is not an IP literal.
+    public static InetAddress parseAddress(String text) {
+        String literal = text.trim();
+        if (literal.startsWith("[") && literal.endsWith("]")) {
+            literal = literal.substring(1, literal.length() - 1);
+        }
+        try {
+            if (literal.indexOf(':') < 0) {
+                byte[] ipv4 = dottedQuad(literal);
+                return ipv4 != null ? InetAddress.getByAddress(ipv4) : null;
+            }
+            if (!isIpv6Literal(literal)) {
+                return null;
+            }
+            return InetAddress.getByName("[" + literal + "]");
+        } catch (UnknownHostException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean isIpv6Literal(String text) {
+        char first = text.charAt(0);
+        if (first != ':' && Character.digit(first, 16) < 0) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != ':' && c != '.' && Character.digit(c, 16) < 0) {
+                return false;
+            }
+        }
+        // Only the last group may be an IPv4 address
+        int lastColon = text.lastIndexOf(':');
+        return text.indexOf('.') < 0 || dottedQuad(text.substring(lastColon + 1)) != null;
+    }
+
+    // Four decimal octets of one to three digits, each at most 255; null otherwise
+    private static byte[] dottedQuad(String text) {
+        byte[] bytes = new byte[4];
+        int octet = 0;
+        int value = 0;
+        int digits = 0;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : '.';
+            if (c == '.') {
+                if (digits == 0 || octet == 4) {
+                    return null;
+                }
+                bytes[octet++] = (byte) value;
+                value = 0;
+                digits = 0;
+            } else if (c >= '0' && c <= '9' && digits < 3) {
+                value = value * 10 + (c - '0');
+                digits++;
+                if (value > 255) {
+                    return null;
+                }
+            } else {
+                return null;
+            }
+        }
+        return octet == 4 ? bytes : null;
+    }
+
+    private static int bit(byte[] bytes, int index) {
+        return (bytes[index >>> 3] >>> (7 - (index & 7))) & 1;
+    }
+
+    private int newNode() {
+        if (2 * nodes + 1 >= children.length) {
+            children = Arrays.copyOf(children, children.length * 2);
+        }
+        return nodes++;
+    }
+}
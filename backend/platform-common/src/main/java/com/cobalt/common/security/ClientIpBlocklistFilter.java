@@ -0,0 +1,58 @@
+package com.cobalt.common.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URI;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// Drops requests from blocklisted networks before any other work is done
+@Component
+public class ClientIpBlocklistFilter extends OncePerRequestFilter {
+
+    private final ClientIpResolver clientIpResolver;
+
+    public ClientIpBlocklistFilter(ClientIpResolver clientIpResolver) {
+        this.clientIpResolver = clientIpResolver;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (clientIpResolver.isBlocked(request)) {
+            writeBlockedResponse(response);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void writeBlockedResponse(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.FORBIDDEN.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+            HttpStatus.FORBIDDEN,
+            "Requests from this network are not accepted."
+        );
+        problem.setTitle("Forbidden");
+        problem.setType(URI.create("https://cobalt.com/errors/forbidden"));
+        response.getWriter().write(
+            """
+            {"type":"%s","title":"%s","status":%d,"detail":"%s"}"""
+                .formatted(
+                    problem.getType(),
+                    problem.getTitle(),
+                    problem.getStatus(),
+                    problem.getDetail()
+                )
+        );
+    }
+}
@@ -0,0 +1,121 @@
+package com.cobalt.common.security;
+
+import com.cobalt.common.config.ClientIpProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Resolves the client address by walking X-Forwarded-For from the right: each entry was
+// appended by the hop to its right, so it is believed only while that hop is a trusted
+// proxy. Entries further left are client-controlled and cannot be used to rotate keys.
+@Component
+public class ClientIpResolver {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClientIpResolver.class);
+    private static final String ATTRIBUTE = ClientIpResolver.class.getName() + ".address";
+
+    private final CidrSet trustedProxies;
+    private final Path blocklistPath;
+    private volatile CidrSet blocklist = new CidrSet();
+    private volatile FileTime blocklistModified;
+
+    public ClientIpResolver(ClientIpProperties properties) {
+        this.trustedProxies = CidrSet.of(properties.trustedProxies());
+        this.blocklistPath = properties.blocklist();
+        reloadBlocklist();
+    }
+
+    public String resolve(HttpServletRequest request) {
+        InetAddress address = address(request);
+        return address != null ? address.getHostAddress() : request.getRemoteAddr();
+    }
+
+    public boolean isBlocked(HttpServletRequest request) {
+        InetAddress address = address(request);
+        return address != null && blocklist.contains(address);
+    }
+
+    @Scheduled(
+        fixedDelayString = "${cobalt.client-ip.blocklist-refresh:PT1M}",
+        initialDelayString = "${cobalt.client-ip.blocklist-refresh:PT1M}"
+    )
+    public void reloadBlocklist() {
+        if (blocklistPath == null) {
+            return;
+        }
+        try {
+            FileTime modified = Files.getLastModifiedTime(blocklistPath);
+            if (modified.equals(blocklistModified)) {
+                return;
+            }
+            CidrSet loaded = new CidrSet();
+            int invalid = 0;
+            try (BufferedReader reader = Files.newBufferedReader(blocklistPath)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int comment = line.indexOf('#');
+                    String cidr = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                    if (cidr.isEmpty()) {
+                        continue;
+                    }
+                    try {
+                        loaded.add(cidr);
+                    } catch (IllegalArgumentException e) {
+                        invalid++;
+                    }
+                }
+            }
+            blocklist = loaded;
+            blocklistModified = modified;
+            LOG.info("Loaded {} blocked networks from {} ({} invalid lines skipped)",
+                loaded.size(), blocklistPath, invalid);
+        } catch (IOException e) {
+            LOG.warn("Could not read IP blocklist {}, keeping the previous one: {}",
+                blocklistPath, e.getMessage());
+        }
+    }
+
+    private InetAddress address(HttpServletRequest request) {
+        Object cached = request.getAttribute(ATTRIBUTE);
+        if (cached instanceof InetAddress address) {
+            return address;
+        }
+        InetAddress address = walkForwardedFor(request);
+        if (address != null) {
+            request.setAttribute(ATTRIBUTE, address);
+        }
+        return address;
+    }
+
+    private InetAddress walkForwardedFor(HttpServletRequest request) {
+        InetAddress client = CidrSet.parseAddress(request.getRemoteAddr());
+        if (client == null || !trustedProxies.contains(client)) {
+            return client;
+        }
+        List<String> hops = new ArrayList<>();
+        for (String header : Collections.list(request.getHeaders("X-Forwarded-For"))) {
+            for (String hop : header.split(",")) {
+                hops.add(hop);
+            }
+        }
+        for (int i = hops.size() - 1; i >= 0 && trustedProxies.contains(client); i--) {
+            InetAddress hop = CidrSet.parseAddress(hops.get(i));
+            if (hop == null) {
+                break;
+            }
+            client = hop;
+        }
+        return client;
+    }
+}
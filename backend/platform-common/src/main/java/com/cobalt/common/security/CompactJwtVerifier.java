@@ -0,0 +1,394 @@
+package com.cobalt.common.security;
+
+import com.cobalt.common.concurrent.BoundedPool;
+import com.cobalt.common.config.TokenVerificationProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CompactJwtVerifier {
+
+    private static final int FIELD_UNKNOWN = -1;
+    private static final int FIELD_SUB = 0;
+    private static final int FIELD_TENANT_ID = 1;
+    private static final int FIELD_EMAIL = 2;
+    private static final int FIELD_ROLE = 3;
+    private static final int FIELD_TYPE = 4;
+    private static final int FIELD_JTI = 5;
+    private static final int FIELD_EXP = 6;
+    private static final int FIELD_IAT = 7;
+
+    private static final byte[][] FIELD_NAMES = {
+        ascii("sub"), ascii("tenantId"), ascii("email"),
+        ascii("role"), ascii("type"), ascii("jti"), ascii("exp"), ascii("iat")
+    };
+
+    private static final byte[] ACCESS = ascii("access");
+    private static final byte[] REFRESH = ascii("refresh");
+
+    private static final int[] BASE64_URL = new int[128];
+
+    static {
+        Arrays.fill(BASE64_URL, -1);
+        String alphabet =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_URL[alphabet.charAt(i)] = i;
+        }
+    }
+
+    // Marks a token the fast path has positively rejected; null means "not handled here"
+    private static final VerifiedClaims REJECTED =
+        new VerifiedClaims(null, null, null, null, null, 0, null);
+
+    private final JwtTokenProvider tokenProvider;
+    private final boolean enabled;
+    private final String[] acceptedHeaders;
+    private final BoundedPool<Scratch> scratch;
+
+    public CompactJwtVerifier(
+        JwtTokenProvider tokenProvider,
+        TokenVerificationProperties properties
+    ) {
+        this.tokenProvider = tokenProvider;
+        this.enabled = properties.compact().enabled();
+
+        SecretKey key = tokenProvider.getSigningKey();
+        String algorithm = JwtTokenTemplate.jwsAlgorithm(key.getAlgorithm());
+        this.acceptedHeaders = algorithm == null
+            ? new String[0]
+            : new String[] {
+                encodeSegment("{\"alg\":\"" + algorithm + "\"}"),
+                encodeSegment("{\"alg\":\"" + algorithm + "\",\"typ\":\"JWT\"}")
+            };
+        this.scratch = BoundedPool.perCore(() -> new Scratch(key));
+    }
+
+    public VerifiedClaims verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        if (enabled && acceptedHeaders.length > 0) {
+            VerifiedClaims claims = verifyCompact(token);
+            if (claims == REJECTED) {
+                return null;
+            }
+            if (claims != null) {
+                return claims;
+            }
+        }
+        return verifyWithJjwt(token);
+    }
+
+    private VerifiedClaims verifyCompact(String token) {
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0
+            || !isAcceptedHeader(token, firstDot)) {
+            return null;
+        }
+
+        Scratch s = scratch.borrow();
+        VerifiedClaims claims = verifyCompact(token, firstDot, secondDot, s);
+        // Not released after an exception, which could leave the Mac mid-update
+        scratch.release(s);
+        return claims;
+    }
+
+    private VerifiedClaims verifyCompact(String token, int firstDot, int secondDot, Scratch s) {
+        int signatureLength = decode(
+            token, secondDot + 1, token.length(), s.signature(token.length() - secondDot)
+        );
+        if (signatureLength != s.macOutput.length
+            || !s.signSigningInput(token, secondDot)
+            || !constantTimeEquals(s.signature, s.macOutput, signatureLength)) {
+            return REJECTED;
+        }
+
+        int payloadLength = decode(
+            token, firstDot + 1, secondDot, s.payload(secondDot - firstDot)
+        );
+        if (payloadLength < 0) {
+            return null;
+        }
+
+        VerifiedClaims claims = parseClaims(s, s.payload, payloadLength);
+        if (claims != null && System.currentTimeMillis() > claims.expiresAtMillis()) {
+            return REJECTED;
+        }
+        return claims;
+    }
+
+    private VerifiedClaims verifyWithJjwt(String token) {
+        try {
+            Claims claims = tokenProvider.parseToken(token);
+            Date expiration = claims.getExpiration();
+            return new VerifiedClaims(
+                claims.getSubject(),
+                claims.get("tenantId", String.class),
+                claims.get("email", String.class),
+                claims.get("role", String.class),
+                claims.get("type", String.class),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE,
+                claims.getId()
+            );
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private boolean isAcceptedHeader(String token, int headerEnd) {
+        for (String header : acceptedHeaders) {
+            if (header.length() == headerEnd
+                && token.regionMatches(0, header, 0, headerEnd)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Flat JSON object of string and integer members; anything else falls back to jjwt
+    private static VerifiedClaims parseClaims(Scratch s, byte[] json, int length) {
+        String[] strings = s.strings;
+        Arrays.fill(strings, null);
+        long expiresAt = -1;
+
+        int pos = skipWhitespace(json, 0, length);
+        if (pos >= length || json[pos] != '{') {
+            return null;
+        }
+        pos = skipWhitespace(json, pos + 1, length);
+
+        while (true) {
+            if (pos >= length || json[pos] != '"') {
+                return null;
+            }
+            int keyEnd = closingQuote(json, pos + 1, length);
+            if (keyEnd < 0) {
+                return null;
+            }
+            int field = fieldOf(json, pos + 1, keyEnd);
+            pos = skipWhitespace(json, keyEnd + 1, length);
+            if (field == FIELD_UNKNOWN || pos >= length || json[pos] != ':') {
+                return null;
+            }
+            pos = skipWhitespace(json, pos + 1, length);
+
+            if (field == FIELD_EXP || field == FIELD_IAT) {
+                int end = numberEnd(json, pos, length);
+                if (end < 0) {
+                    return null;
+                }
+                if (field == FIELD_EXP) {
+                    if (expiresAt >= 0) {
+                        return null;
+                    }
+                    expiresAt = parseLong(json, pos, end) * 1000L;
+                }
+                pos = end;
+            } else {
+                if (pos >= length || json[pos] != '"' || strings[field] != null) {
+                    return null;
+                }
+                int valueEnd = closingQuote(json, pos + 1, length);
+                if (valueEnd < 0) {
+                    return null;
+                }
+                strings[field] = field == FIELD_TYPE
+                    ? tokenType(json, pos + 1, valueEnd)
+                    : new String(json, pos + 1, valueEnd - pos - 1, StandardCharsets.UTF_8);
+                pos = valueEnd + 1;
+            }
+
+            pos = skipWhitespace(json, pos, length);
+            if (pos < length && json[pos] == ',') {
+                pos = skipWhitespace(json, pos + 1, length);
+            } else if (pos < length && json[pos] == '}') {
+                pos = skipWhitespace(json, pos + 1, length);
+                break;
+            } else {
+                return null;
+            }
+        }
+
+        if (pos != length || expiresAt < 0 || strings[FIELD_SUB] == null
+            || strings[FIELD_TENANT_ID] == null || strings[FIELD_TYPE] == null) {
+            return null;
+        }
+        return new VerifiedClaims(
+            strings[FIELD_SUB],
+            strings[FIELD_TENANT_ID],
+            strings[FIELD_EMAIL],
+            strings[FIELD_ROLE],
+            strings[FIELD_TYPE],
+            expiresAt,
+            strings[FIELD_JTI]
+        );
+    }
+
+    private static int fieldOf(byte[] json, int from, int to) {
+        for (int field = 0; field < FIELD_NAMES.length; field++) {
+            if (regionEquals(json, from, to, FIELD_NAMES[field])) {
+                return field;
+            }
+        }
+        return FIELD_UNKNOWN;
+    }
+
+    private static String tokenType(byte[] json, int from, int to) {
+        if (regionEquals(json, from, to, ACCESS)) {
+            return "access";
+        }
+        if (regionEquals(json, from, to, REFRESH)) {
+            return "refresh";
+        }
+        return new String(json, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    private static boolean regionEquals(byte[] json, int from, int to, byte[] expected) {
+        return Arrays.equals(json, from, to, expected, 0, expected.length);
+    }
+
+    private static int closingQuote(byte[] json, int from, int length) {
+        for (int i = from; i < length; i++) {
+            byte b = json[i];
+            if (b == '"') {
+                return i;
+            }
+            if (b == '\\' || (b >= 0 && b < 0x20)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static int numberEnd(byte[] json, int from, int length) {
+        int end = from;
+        while (end < length && json[end] >= '0' && json[end] <= '9') {
+            end++;
+        }
+        int digits = end - from;
+        return digits == 0 || digits > 15 ? -1 : end;
+    }
+
+    private static long parseLong(byte[] json, int from, int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * 10 + (json[i] - '0');
+        }
+        return value;
+    }
+
+    private static int skipWhitespace(byte[] json, int from, int length) {
+        int pos = from;
+        while (pos < length
+            && (json[pos] == ' ' || json[pos] == '\n' || json[pos] == '\r' || json[pos] == '\t')) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int decode(String src, int from, int to, byte[] dst) {
+        if ((to - from) % 4 == 1) {
+            return -1;
+        }
+        int out = 0;
+        int buffer = 0;
+        int bits = 0;
+        for (int i = from; i < to; i++) {
+            char c = src.charAt(i);
+            int value = c < 128 ? BASE64_URL[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            buffer = (buffer << 6) | value;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                dst[out++] = (byte) (buffer >> bits);
+                buffer &= (1 << bits) - 1;
+            }
+        }
+        return out;
+    }
+
+    private static boolean constantTimeEquals(byte[] a, byte[] b, int length) {
+        int diff = 0;
+        for (int i = 0; i < length; i++) {
+            diff |= a[i] ^ b[i];
+        }
+        return diff == 0;
+    }
+
+    private static String encodeSegment(String json) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static final class Scratch {
+
+        private final Mac mac;
+        private final byte[] macOutput;
+        private final String[] strings = new String[FIELD_JTI + 1];
+        private byte[] signingInput = new byte[512];
+        private byte[] payload = new byte[512];
+        private byte[] signature = new byte[128];
+
+        Scratch(SecretKey key) {
+            try {
+                this.mac = Mac.getInstance(key.getAlgorithm());
+                this.mac.init(key);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Cannot initialise " + key.getAlgorithm(), e);
+            }
+            this.macOutput = new byte[mac.getMacLength()];
+        }
+
+        byte[] payload(int encodedLength) {
+            if (payload.length < encodedLength) {
+                payload = new byte[encodedLength * 2];
+            }
+            return payload;
+        }
+
+        byte[] signature(int encodedLength) {
+            if (signature.length < encodedLength) {
+                signature = new byte[encodedLength * 2];
+            }
+            return signature;
+        }
+
+        boolean signSigningInput(String token, int length) {
+            if (signingInput.length < length) {
+                signingInput = new byte[length * 2];
+            }
+            for (int i = 0; i < length; i++) {
+                char c = token.charAt(i);
+                if (c > 0x7f) {
+                    return false;
+                }
+                signingInput[i] = (byte) c;
+            }
+            try {
+                mac.update(signingInput, 0, length);
+                mac.doFinal(macOutput, 0);
+                return true;
+            } catch (GeneralSecurityException e) {
+                mac.reset();
+                return false;
+            }
+        }
+    }
+}
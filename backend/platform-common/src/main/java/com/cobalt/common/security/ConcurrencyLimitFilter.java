@@ -0,0 +1,160 @@
+package com.cobalt.common.security;
+
+import com.cobalt.common.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// Sheds load before any work is done: each endpoint group admits only as many concurrent
+// requests as its adaptive limit allows and rejects the rest with 503.
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String DEFAULT_GROUP = "default";
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final boolean enabled;
+    private final List<Group> groups = new ArrayList<>();
+    private final Group defaultGroup;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public ConcurrencyLimitFilter(
+        ConcurrencyLimitProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.enabled = properties.enabled();
+        for (Map.Entry<String, ConcurrencyLimitProperties.Group> entry
+            : properties.groups().entrySet()) {
+            groups.add(new Group(entry.getKey(), entry.getValue(), properties, meterRegistry));
+        }
+        this.defaultGroup = new Group(
+            DEFAULT_GROUP, properties.defaults(), properties, meterRegistry
+        );
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        Group group = groupFor(request.getRequestURI());
+        if (!group.limit.tryAcquire()) {
+            group.rejected.increment();
+            writeOverloadedResponse(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value()
+                || response.getStatus() == HttpStatus.GATEWAY_TIMEOUT.value();
+        } finally {
+            if (request.isAsyncStarted()) {
+                // Streamed responses hold their slot until they finish, but their duration
+                // is not a latency sample
+                request.getAsyncContext().addListener(
+                    new ReleaseOnAsyncCompletion(group.limit::release)
+                );
+            } else {
+                group.limit.release(System.nanoTime() - start, dropped);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith("/actuator");
+    }
+
+    private Group groupFor(String path) {
+        for (Group group : groups) {
+            for (String pattern : group.paths) {
+                if (pathMatcher.match(pattern, path)) {
+                    return group;
+                }
+            }
+        }
+        return defaultGroup;
+    }
+
+    private void writeOverloadedResponse(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setHeader("Retry-After", String.valueOf(RETRY_AFTER_SECONDS));
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+            HttpStatus.SERVICE_UNAVAILABLE,
+            "The service is overloaded. Try again shortly."
+        );
+        problem.setTitle("Service Unavailable");
+        problem.setType(URI.create("https://cobalt.com/errors/service-unavailable"));
+        problem.setProperty("retryAfterSeconds", RETRY_AFTER_SECONDS);
+        problem.setProperty("timestamp", Instant.now().toString());
+        response.getWriter().write(
+            """
+            {"type":"%s","title":"%s","status":%d,"detail":"%s","retryAfterSeconds":%d}"""
+                .formatted(
+                    problem.getType(),
+                    problem.getTitle(),
+                    problem.getStatus(),
+                    problem.getDetail(),
+                    RETRY_AFTER_SECONDS
+                )
+        );
+    }
+
+    private static final class Group {
+
+        private final List<String> paths;
+        private final AdaptiveConcurrencyLimit limit;
+        private final Counter rejected;
+
+        Group(
+            String name,
+            ConcurrencyLimitProperties.Group group,
+            ConcurrencyLimitProperties properties,
+            MeterRegistry meterRegistry
+        ) {
+            this.paths = group.paths();
+            this.limit = new AdaptiveConcurrencyLimit(
+                group.initialLimit(),
+                group.minLimit(),
+                group.maxLimit(),
+                properties.tolerance(),
+                properties.smoothing(),
+                properties.sampleWindow(),
+                properties.longWindow()
+            );
+            Gauge.builder("cobalt.concurrency.limit", limit, AdaptiveConcurrencyLimit::limit)
+                .description("Concurrent requests currently admitted for the endpoint group")
+                .tag("group", name)
+                .register(meterRegistry);
+            Gauge.builder("cobalt.concurrency.inflight", limit, AdaptiveConcurrencyLimit::inFlight)
+                .description("Requests in flight for the endpoint group")
+                .tag("group", name)
+                .register(meterRegistry);
+            this.rejected = Counter.builder("cobalt.concurrency.rejected")
+                .description("Requests rejected because the endpoint group was at its limit")
+                .tag("group", name)
+                .register(meterRegistry);
+        }
+    }
+}
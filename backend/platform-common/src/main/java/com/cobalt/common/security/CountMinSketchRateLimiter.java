@@ -0,0 +1,244 @@
+package com.cobalt.common.security;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+// Approximate per-key limiter whose memory does not depend on how many keys it sees.
+// Counts live in two count-min sketches, one for the current period and one for the
+// previous, blended into a sliding-window estimate. Sketches only over-count, so a key
+// is never admitted beyond its limit; under very high cardinality a quiet key may be
+// limited early, by roughly depth-wise e/width of all requests in the window. Rows are
+// indexed by SipHash under a random per-instance key: with String.hashCode an attacker
+// could craft an address that collides with a victim's in every row and lock it out.
+// Each key's check and increment run under one of a few striped locks, and a new window
+// gets fresh counters instead of clearing ones that late callers may still be using.
+public class CountMinSketchRateLimiter<K> implements RateLimiter<K> {
+
+    private static final int STRIPES = 64;
+
+    private final int limit;
+    private final long periodMillis;
+    private final int width;
+    private final int depth;
+    private final LongSupplier clock;
+    private final AtomicReference<Windows> windows;
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    private final TopOffenders<K> offenders;
+    private final long[] hashKeys;
+
+    public CountMinSketchRateLimiter(int limit, Duration period, int width, int depth, int topK) {
+        this(limit, period, width, depth, topK, System::currentTimeMillis);
+    }
+
+    CountMinSketchRateLimiter(
+        int limit,
+        Duration period,
+        int width,
+        int depth,
+        int topK,
+        LongSupplier clock
+    ) {
+        if (width <= 0 || depth <= 0 || (long) width * depth > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                "Invalid sketch dimensions " + depth + "x" + width
+            );
+        }
+        this.limit = limit;
+        this.periodMillis = period.toMillis();
+        this.width = width;
+        this.depth = depth;
+        this.clock = clock;
+        this.windows = new AtomicReference<>(new Windows(
+            clock.getAsLong() / periodMillis,
+            new AtomicIntegerArray(width * depth),
+            new AtomicIntegerArray(width * depth)
+        ));
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.offenders = new TopOffenders<>(topK);
+        SecureRandom random = new SecureRandom();
+        this.hashKeys = new long[] {
+            random.nextLong(), random.nextLong(), random.nextLong(), random.nextLong()
+        };
+    }
+
+    @Override
+    public long acquire(K key) {
+        long now = clock.getAsLong();
+        Windows sketches = rotate(now / periodMillis);
+        long window = sketches.window();
+
+        String text = key.toString();
+        // Two independently keyed hashes for double hashing across the rows
+        long h1 = SipHash.hash(hashKeys[0], hashKeys[1], text);
+        long h2 = SipHash.hash(hashKeys[2], hashKeys[3], text) | 1;
+        // A caller whose clock read lost a race with the next rotation counts as if at
+        // the start of that window, where the previous one weighs the most
+        double remaining = now / periodMillis == window
+            ? 1 - (double) (now % periodMillis) / periodMillis
+            : 1;
+        int previousCount;
+        int currentCount;
+        double estimate;
+        ReentrantLock stripe = stripes[(int) (h1 >>> 58)];
+        stripe.lock();
+        try {
+            previousCount = estimate(sketches.previous(), h1, h2);
+            currentCount = estimate(sketches.current(), h1, h2);
+            estimate = currentCount + previousCount * remaining;
+            if (estimate < limit) {
+                increment(sketches.current(), h1, h2, currentCount);
+            }
+        } finally {
+            stripe.unlock();
+        }
+
+        if (estimate >= limit) {
+            offenders.denied(key, Math.round(estimate), window);
+            return retryAfter(now, currentCount, previousCount, remaining);
+        }
+        long updated = Math.round(currentCount + 1 + previousCount * remaining);
+        if (updated * 2 >= limit) {
+            offenders.admitted(key, updated, window);
+        }
+        return 0;
+    }
+
+    public List<TopOffenders.Offender> topOffenders() {
+        return offenders.snapshot(windows.get().window() - 1);
+    }
+
+    // The finished window's counters become the previous ones as they are, so increments
+    // still landing on them only make the estimate more conservative
+    private Windows rotate(long window) {
+        Windows seen = windows.get();
+        while (window > seen.window()) {
+            AtomicIntegerArray previous = window - seen.window() == 1
+                ? seen.current()
+                : new AtomicIntegerArray(width * depth);
+            Windows next = new Windows(window, new AtomicIntegerArray(width * depth), previous);
+            if (windows.compareAndSet(seen, next)) {
+                offenders.evictBefore(window - 1);
+                return next;
+            }
+            seen = windows.get();
+        }
+        return seen;
+    }
+
+    private int estimate(AtomicIntegerArray sketch, long h1, long h2) {
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, sketch.get(index(row, h1, h2)));
+        }
+        return min;
+    }
+
+    // Conservative update: only counters at the current minimum are raised, which keeps
+    // over-counting from colliding keys much lower than a plain increment
+    private void increment(AtomicIntegerArray sketch, long h1, long h2, int currentCount) {
+        int target = currentCount + 1;
+        for (int row = 0; row < depth; row++) {
+            sketch.accumulateAndGet(index(row, h1, h2), target, Math::max);
+        }
+    }
+
+    private long retryAfter(long now, int currentCount, int previousCount, double remaining) {
+        long untilNextWindow = periodMillis - now % periodMillis;
+        double wait;
+        if (currentCount < limit) {
+            // Wait for the previous window's weight to fall below what is left of the limit
+            double fraction = 1 - (double) (limit - currentCount) / previousCount;
+            wait = (fraction - (1 - remaining)) * periodMillis;
+        } else {
+            // This window alone is over the limit; it must first become the previous one
+            double fraction = 1 - (double) limit / currentCount;
+            wait = untilNextWindow + fraction * periodMillis;
+        }
+        return Math.max(1, (long) Math.ceil(wait));
+    }
+
+    private int index(int row, long h1, long h2) {
+        return row * width + (int) Long.remainderUnsigned(h1 + row * h2, width);
+    }
+
+    private record Windows(
+        long window,
+        AtomicIntegerArray current,
+        AtomicIntegerArray previous
+    ) {
+    }
+
+    // SipHash-2-4 over the UTF-16LE bytes of a string
+    static final class SipHash {
+
+        private long v0;
+        private long v1;
+        private long v2;
+        private long v3;
+
+        private SipHash(long k0, long k1) {
+            v0 = 0x736f6d6570736575L ^ k0;
+            v1 = 0x646f72616e646f6dL ^ k1;
+            v2 = 0x6c7967656e657261L ^ k0;
+            v3 = 0x7465646279746573L ^ k1;
+        }
+
+        static long hash(long k0, long k1, String data) {
+            SipHash state = new SipHash(k0, k1);
+            int length = data.length();
+            int i = 0;
+            for (; i + 4 <= length; i += 4) {
+                state.compress(data.charAt(i)
+                    | (long) data.charAt(i + 1) << 16
+                    | (long) data.charAt(i + 2) << 32
+                    | (long) data.charAt(i + 3) << 48);
+            }
+            long last = (long) (length * 2) << 56;
+            for (int shift = 0; i < length; i++, shift += 16) {
+                last |= (long) data.charAt(i) << shift;
+            }
+            state.compress(last);
+            return state.finish();
+        }
+
+        private void compress(long m) {
+            v3 ^= m;
+            round();
+            round();
+            v0 ^= m;
+        }
+
+        private long finish() {
+            v2 ^= 0xff;
+            round();
+            round();
+            round();
+            round();
+            return v0 ^ v1 ^ v2 ^ v3;
+        }
+
+        private void round() {
+            v0 += v1;
+            v1 = Long.rotateLeft(v1, 13);
+            v1 ^= v0;
+            v0 = Long.rotateLeft(v0, 32);
+            v2 += v3;
+            v3 = Long.rotateLeft(v3, 16);
+            v3 ^= v2;
+            v0 += v3;
+            v3 = Long.rotateLeft(v3, 21);
+            v3 ^= v0;
+            v2 += v1;
+            v1 = Long.rotateLeft(v1, 17);
+            v1 ^= v2;
+            v2 = Long.rotateLeft(v2, 32);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.cobalt.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Generic Cell Rate Algorithm: each key keeps only its theoretical arrival time (TAT),
+// the instant at which it would be back to an idle, full allowance. A request is
+// admitted while TAT - now stays within the burst tolerance and pushes TAT forward by
+// one emission interval, so requests are paced evenly instead of reset per window.
+public class GcraRateLimiter<K> implements RateLimiter<K> {
+
+    private final Cache<K, AtomicLong> arrivals;
+    private final long emissionMicros;
+    private final long toleranceMicros;
+    private final LongSupplier clock;
+
+    public GcraRateLimiter(int rate, Duration period, int burst) {
+        this(rate, period, burst, System::currentTimeMillis);
+    }
+
+    GcraRateLimiter(int rate, Duration period, int burst, LongSupplier clock) {
+        long periodMicros = period.toNanos() / 1_000;
+        if (rate <= 0 || rate > periodMicros) {
+            throw new IllegalArgumentException(
+                "Rate must be between 1 and " + periodMicros + " per period: " + rate
+            );
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("Burst must be positive: " + burst);
+        }
+        this.emissionMicros = periodMicros / rate;
+        this.toleranceMicros = emissionMicros * (burst - 1);
+        this.clock = clock;
+        // TAT is never more than tolerance + one emission past the last admitted request,
+        // so once a key has been idle that long its TAT has passed and it is as good as new
+        this.arrivals = LimiterState.expireAfterIdle(
+            Duration.ofNanos((toleranceMicros + emissionMicros) * 1_000), clock
+        );
+    }
+
+    @Override
+    public long acquire(K key) {
+        long now = clock.getAsLong() * 1_000;
+        AtomicLong arrival = arrivals.get(key, k -> new AtomicLong(now));
+        while (true) {
+            long current = arrival.get();
+            long tat = Math.max(current, now);
+            long wait = tat - toleranceMicros - now;
+            if (wait > 0) {
+                return Math.ceilDiv(wait, 1_000);
+            }
+            if (arrival.compareAndSet(current, tat + emissionMicros)) {
+                return 0;
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry, String name) {
+        CaffeineCacheMetrics.monitor(registry, arrivals, "rate-limit." + name);
+    }
+
+    long size() {
+        arrivals.cleanUp();
+        return arrivals.estimatedSize();
+    }
+}
@@ -7,13 +7,13 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
-public class JwtAuthentication implements Authentication {
+public final class JwtAuthentication implements Authentication {
 
     private final UUID userId;
     private final UUID tenantId;
     private final String email;
     private final String role;
-    private boolean authenticated = true;
+    private final List<GrantedAuthority> authorities;
 
     public JwtAuthentication(
         UUID userId,
@@ -25,6 +25,7 @@ public class JwtAuthentication implements Authentication {
         this.tenantId = tenantId;
         this.email = email;
         this.role = role;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
     }
 
     public UUID getUserId() {
@@ -35,9 +36,17 @@ public class JwtAuthentication implements Authentication {
         return tenantId;
     }
 
+    public String getEmail() {
+        return email;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_" + role));
+        return authorities;
     }
 
     @Override
@@ -57,12 +66,17 @@ public class JwtAuthentication implements Authentication {
 
     @Override
     public boolean isAuthenticated() {
-        return authenticated;
+        return true;
     }
 
+    // Instances are shared through VerifiedTokenCache, so they must never change state
     @Override
     public void setAuthenticated(boolean isAuthenticated) {
-        this.authenticated = isAuthenticated;
+        if (!isAuthenticated) {
+            throw new IllegalArgumentException(
+                "JwtAuthentication is immutable and cannot be marked unauthenticated"
+            );
+        }
     }
 
     @Override
@@ -1,12 +1,10 @@
 package com.cobalt.common.security;
 
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.UUID;
 import org.slf4j.MDC;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -16,10 +14,10 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider tokenProvider;
+    private final VerifiedTokenCache tokenCache;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider) {
-        this.tokenProvider = tokenProvider;
+    public JwtAuthenticationFilter(VerifiedTokenCache tokenCache) {
+        this.tokenCache = tokenCache;
     }
 
     @Override
@@ -30,34 +28,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         String token = extractToken(request);
 
-        if (token != null && tokenProvider.validateToken(token)) {
-            Claims claims = tokenProvider.parseToken(token);
-            String tokenType = claims.get("type", String.class);
+        JwtAuthentication auth = token != null
+            ? tokenCache.verifyAccessToken(token)
+            : null;
 
-            if ("access".equals(tokenType)) {
-                UUID userId = UUID.fromString(claims.getSubject());
-                UUID tenantId = UUID.fromString(
-                    claims.get("tenantId", String.class)
-                );
-                String email = claims.get("email", String.class);
-                String role = claims.get("role", String.class);
-
-                JwtAuthentication auth = new JwtAuthentication(
-                    userId, tenantId, email, role
-                );
-                SecurityContextHolder.getContext()
-                    .setAuthentication(auth);
-                MDC.put("tenantId", tenantId.toString());
-                MDC.put("userId", userId.toString());
-                TenantContext.setCurrentTenantId(tenantId);
-            }
-        }
-
-        try {
+        if (auth == null) {
             filterChain.doFilter(request, response);
-        } finally {
-            TenantContext.clear();
+            return;
         }
+
+        SecurityContextHolder.getContext().setAuthentication(auth);
+        MDC.put("tenantId", auth.getTenantId().toString());
+        MDC.put("userId", auth.getUserId().toString());
+        TenantContext.<IOException, ServletException>runWithTenant(
+            auth.getTenantId(),
+            () -> filterChain.doFilter(request, response)
+        );
     }
 
     private String extractToken(HttpServletRequest request) {
@@ -16,6 +16,7 @@ import org.springframework.stereotype.Component;
 public class JwtTokenProvider {
 
     private final SecretKey key;
+    private final JwtTokenTemplate template;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
@@ -28,6 +29,7 @@ public class JwtTokenProvider {
             secret.getBytes(StandardCharsets.UTF_8)
         );
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.template = new JwtTokenTemplate(key);
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
     }
@@ -38,7 +40,56 @@ public class JwtTokenProvider {
         String role,
         UUID tenantId
     ) {
-        Date now = new Date();
+        return generateAccessToken(
+            userId, email, role, tenantId, System.currentTimeMillis()
+        );
+    }
+
+    public String generateRefreshToken(UUID userId, UUID tenantId) {
+        return generateRefreshToken(
+            userId, tenantId, UUID.randomUUID(), System.currentTimeMillis()
+        );
+    }
+
+    String generateAccessToken(
+        UUID userId,
+        String email,
+        String role,
+        UUID tenantId,
+        long nowMillis
+    ) {
+        String token = template.accessToken(
+            userId, email, role, tenantId,
+            nowMillis, nowMillis + accessTokenExpiration
+        );
+        return token != null
+            ? token
+            : buildAccessToken(userId, email, role, tenantId, nowMillis);
+    }
+
+    String generateRefreshToken(
+        UUID userId,
+        UUID tenantId,
+        UUID tokenId,
+        long nowMillis
+    ) {
+        String token = template.refreshToken(
+            userId, tenantId, tokenId,
+            nowMillis, nowMillis + refreshTokenExpiration
+        );
+        return token != null
+            ? token
+            : buildRefreshToken(userId, tenantId, tokenId, nowMillis);
+    }
+
+    String buildAccessToken(
+        UUID userId,
+        String email,
+        String role,
+        UUID tenantId,
+        long nowMillis
+    ) {
+        Date now = new Date(nowMillis);
         Date expiry = new Date(now.getTime() + accessTokenExpiration);
 
         return Jwts.builder()
@@ -53,12 +104,18 @@ public class JwtTokenProvider {
             .compact();
     }
 
-    public String generateRefreshToken(UUID userId, UUID tenantId) {
-        Date now = new Date();
+    String buildRefreshToken(
+        UUID userId,
+        UUID tenantId,
+        UUID tokenId,
+        long nowMillis
+    ) {
+        Date now = new Date(nowMillis);
         Date expiry = new Date(now.getTime() + refreshTokenExpiration);
 
         return Jwts.builder()
             .subject(userId.toString())
+            .id(tokenId.toString())
             .claim("tenantId", tenantId.toString())
             .claim("type", "refresh")
             .issuedAt(now)
@@ -101,4 +158,8 @@ public class JwtTokenProvider {
     public long getAccessTokenExpiration() {
         return accessTokenExpiration;
     }
+
+    SecretKey getSigningKey() {
+        return key;
+    }
 }
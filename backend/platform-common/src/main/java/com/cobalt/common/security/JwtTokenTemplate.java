@@ -0,0 +1,271 @@
+package com.cobalt.common.security;
+
+import com.cobalt.common.concurrent.BoundedPool;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.UUID;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+
+// Writes the exact bytes jjwt + Jackson produce for our two fixed claim layouts.
+// Returns null whenever a value would need JSON escaping so the caller can use jjwt instead.
+final class JwtTokenTemplate {
+
+    private static final byte[] BASE64_URL =
+        "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+            .getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] SUB = ascii("{\"sub\":\"");
+    private static final byte[] JTI = ascii("\",\"jti\":\"");
+    private static final byte[] EMAIL = ascii("\",\"email\":\"");
+    private static final byte[] ROLE = ascii("\",\"role\":\"");
+    private static final byte[] TENANT_ID = ascii("\",\"tenantId\":\"");
+    private static final byte[] ACCESS_TYPE = ascii("\",\"type\":\"access\",\"iat\":");
+    private static final byte[] REFRESH_TYPE = ascii("\",\"type\":\"refresh\",\"iat\":");
+    private static final byte[] EXP = ascii(",\"exp\":");
+
+    private final byte[] headerSegment;
+    private final BoundedPool<Buffers> buffers;
+
+    JwtTokenTemplate(SecretKey key) {
+        String algorithm = jwsAlgorithm(key.getAlgorithm());
+        this.headerSegment = algorithm == null
+            ? null
+            : ascii(Base64.getUrlEncoder().withoutPadding().encodeToString(
+                ascii("{\"alg\":\"" + algorithm + "\"}")
+            ) + ".");
+        this.buffers = BoundedPool.perCore(() -> new Buffers(key));
+    }
+
+    String accessToken(
+        UUID userId,
+        String email,
+        String role,
+        UUID tenantId,
+        long issuedAtMillis,
+        long expiresAtMillis
+    ) {
+        if (headerSegment == null) {
+            return null;
+        }
+        Buffers b = buffers.borrow();
+        String token = accessToken(
+            b, userId, email, role, tenantId, issuedAtMillis, expiresAtMillis
+        );
+        buffers.release(b);
+        return token;
+    }
+
+    private String accessToken(
+        Buffers b,
+        UUID userId,
+        String email,
+        String role,
+        UUID tenantId,
+        long issuedAtMillis,
+        long expiresAtMillis
+    ) {
+        b.json = 0;
+        b.put(SUB);
+        b.putAscii(userId.toString());
+        b.put(EMAIL);
+        if (!b.putPlainString(email)) {
+            return null;
+        }
+        b.put(ROLE);
+        if (!b.putPlainString(role)) {
+            return null;
+        }
+        b.put(TENANT_ID);
+        b.putAscii(tenantId.toString());
+        b.put(ACCESS_TYPE);
+        b.putLong(issuedAtMillis / 1000);
+        b.put(EXP);
+        b.putLong(expiresAtMillis / 1000);
+        b.putByte((byte) '}');
+        return b.sign(headerSegment);
+    }
+
+    String refreshToken(
+        UUID userId,
+        UUID tenantId,
+        UUID tokenId,
+        long issuedAtMillis,
+        long expiresAtMillis
+    ) {
+        if (headerSegment == null) {
+            return null;
+        }
+        Buffers b = buffers.borrow();
+        String token = refreshToken(b, userId, tenantId, tokenId, issuedAtMillis, expiresAtMillis);
+        buffers.release(b);
+        return token;
+    }
+
+    private String refreshToken(
+        Buffers b,
+        UUID userId,
+        UUID tenantId,
+        UUID tokenId,
+        long issuedAtMillis,
+        long expiresAtMillis
+    ) {
+        b.json = 0;
+        b.put(SUB);
+        b.putAscii(userId.toString());
+        b.put(JTI);
+        b.putAscii(tokenId.toString());
+        b.put(TENANT_ID);
+        b.putAscii(tenantId.toString());
+        b.put(REFRESH_TYPE);
+        b.putLong(issuedAtMillis / 1000);
+        b.put(EXP);
+        b.putLong(expiresAtMillis / 1000);
+        b.putByte((byte) '}');
+        return b.sign(headerSegment);
+    }
+
+    static String jwsAlgorithm(String macAlgorithm) {
+        return switch (macAlgorithm) {
+            case "HmacSHA256" -> "HS256";
+            case "HmacSHA384" -> "HS384";
+            case "HmacSHA512" -> "HS512";
+            default -> null;
+        };
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static final class Buffers {
+
+        private final Mac mac;
+        private final byte[] signature;
+        private byte[] jsonBytes = new byte[512];
+        private byte[] tokenBytes = new byte[1024];
+        private int json;
+
+        Buffers(SecretKey key) {
+            try {
+                this.mac = Mac.getInstance(key.getAlgorithm());
+                this.mac.init(key);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Cannot initialise " + key.getAlgorithm(), e);
+            }
+            this.signature = new byte[mac.getMacLength()];
+        }
+
+        void put(byte[] fragment) {
+            ensureJson(fragment.length);
+            System.arraycopy(fragment, 0, jsonBytes, json, fragment.length);
+            json += fragment.length;
+        }
+
+        void putByte(byte value) {
+            ensureJson(1);
+            jsonBytes[json++] = value;
+        }
+
+        void putAscii(String value) {
+            ensureJson(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                jsonBytes[json++] = (byte) value.charAt(i);
+            }
+        }
+
+        // Jackson escapes quotes, backslashes and control characters; leave those to jjwt
+        boolean putPlainString(String value) {
+            if (value == null) {
+                return false;
+            }
+            ensureJson(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < 0x20 || c >= 0x7f || c == '"' || c == '\\') {
+                    return false;
+                }
+                jsonBytes[json++] = (byte) c;
+            }
+            return true;
+        }
+
+        void putLong(long value) {
+            ensureJson(20);
+            if (value == 0) {
+                jsonBytes[json++] = '0';
+                return;
+            }
+            long remaining = value;
+            if (remaining < 0) {
+                jsonBytes[json++] = '-';
+                remaining = -remaining;
+            }
+            int start = json;
+            while (remaining > 0) {
+                jsonBytes[json++] = (byte) ('0' + remaining % 10);
+                remaining /= 10;
+            }
+            for (int i = start, j = json - 1; i < j; i++, j--) {
+                byte tmp = jsonBytes[i];
+                jsonBytes[i] = jsonBytes[j];
+                jsonBytes[j] = tmp;
+            }
+        }
+
+        String sign(byte[] headerSegment) {
+            int payloadLength = (json * 4 + 2) / 3;
+            int signatureLength = (signature.length * 4 + 2) / 3;
+            int capacity = headerSegment.length + payloadLength + 1 + signatureLength;
+            if (tokenBytes.length < capacity) {
+                tokenBytes = new byte[capacity * 2];
+            }
+
+            System.arraycopy(headerSegment, 0, tokenBytes, 0, headerSegment.length);
+            int length = encode(jsonBytes, json, tokenBytes, headerSegment.length);
+            try {
+                mac.update(tokenBytes, 0, length);
+                mac.doFinal(signature, 0);
+            } catch (GeneralSecurityException e) {
+                mac.reset();
+                throw new IllegalStateException("Failed to sign token", e);
+            }
+            tokenBytes[length++] = '.';
+            length = encode(signature, signature.length, tokenBytes, length);
+            return new String(tokenBytes, 0, length, StandardCharsets.ISO_8859_1);
+        }
+
+        private void ensureJson(int extra) {
+            if (jsonBytes.length < json + extra) {
+                byte[] grown = new byte[(json + extra) * 2];
+                System.arraycopy(jsonBytes, 0, grown, 0, json);
+                jsonBytes = grown;
+            }
+        }
+
+        private static int encode(byte[] src, int srcLength, byte[] dst, int offset) {
+            int out = offset;
+            int i = 0;
+            for (; i + 2 < srcLength; i += 3) {
+                int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8 | (src[i + 2] & 0xff);
+                dst[out++] = BASE64_URL[bits >>> 18];
+                dst[out++] = BASE64_URL[(bits >>> 12) & 0x3f];
+                dst[out++] = BASE64_URL[(bits >>> 6) & 0x3f];
+                dst[out++] = BASE64_URL[bits & 0x3f];
+            }
+            int remaining = srcLength - i;
+            if (remaining == 1) {
+                int bits = (src[i] & 0xff) << 16;
+                dst[out++] = BASE64_URL[bits >>> 18];
+                dst[out++] = BASE64_URL[(bits >>> 12) & 0x3f];
+            } else if (remaining == 2) {
+                int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8;
+                dst[out++] = BASE64_URL[bits >>> 18];
+                dst[out++] = BASE64_URL[(bits >>> 12) & 0x3f];
+                dst[out++] = BASE64_URL[(bits >>> 6) & 0x3f];
+            }
+            return out;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.cobalt.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Enforces one limit across replicas by leasing tokens from a shared store in batches.
+// Requests spend the local lease and never wait on the store: a refill is fetched in the
+// background once half the lease is used. A lease that runs dry before its refill lands may
+// go up to one lease size into debt, repaid from the next grant. Keys without a live
+// lease, and every key while the store is failing, fall back to the per-replica limiter.
+public class LeasedRateLimiter<K> implements RateLimiter<K> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LeasedRateLimiter.class);
+
+    private final String name;
+    private final TokenLeaseStore store;
+    private final TokenLeaseStore.Limit limit;
+    private final RateLimiter<K> fallback;
+    private final int leaseSize;
+    private final long leaseTtlMillis;
+    private final long failureBackoffMillis;
+    private final Executor executor;
+    private final LongSupplier clock;
+    private final Cache<K, Lease> leases;
+    private volatile long storeUnavailableUntil;
+
+    public LeasedRateLimiter(
+        String name,
+        TokenLeaseStore store,
+        TokenLeaseStore.Limit limit,
+        RateLimiter<K> fallback,
+        int leaseSize,
+        Duration leaseTtl,
+        Duration failureBackoff,
+        Executor executor
+    ) {
+        this(name, store, limit, fallback, leaseSize, leaseTtl, failureBackoff,
+            executor, System::currentTimeMillis);
+    }
+
+    LeasedRateLimiter(
+        String name,
+        TokenLeaseStore store,
+        TokenLeaseStore.Limit limit,
+        RateLimiter<K> fallback,
+        int leaseSize,
+        Duration leaseTtl,
+        Duration failureBackoff,
+        Executor executor,
+        LongSupplier clock
+    ) {
+        this.name = name;
+        this.store = store;
+        this.limit = limit;
+        this.fallback = fallback;
+        // A single replica must not be able to hoard the whole burst
+        this.leaseSize = Math.max(1, Math.min(leaseSize, limit.capacity() / 4));
+        this.leaseTtlMillis = leaseTtl.toMillis();
+        this.failureBackoffMillis = failureBackoff.toMillis();
+        this.executor = executor;
+        this.clock = clock;
+        // Unused tokens lapse with the lease, so an idle key holds nothing worth keeping
+        this.leases = LimiterState.expireAfterIdle(leaseTtl, clock);
+    }
+
+    @Override
+    public long acquire(K key) {
+        long now = clock.getAsLong();
+        Lease lease = leases.get(key, k -> new Lease());
+
+        if (lease.tryTake(now, 0)) {
+            if (lease.tokens.get() <= leaseSize / 2) {
+                refill(key, lease, now);
+            }
+            return 0;
+        }
+        refill(key, lease, now);
+        if (now < lease.retryAt) {
+            return lease.retryAt - now;
+        }
+        if (now >= lease.expiresAt || now < storeUnavailableUntil) {
+            return fallback.acquire(key);
+        }
+        // The lease ran dry faster than a refill round trip. The shared bucket most likely
+        // still has tokens, so borrow against the refill instead of rejecting
+        if (lease.refilling.get() && lease.tryTake(now, -leaseSize)) {
+            return 0;
+        }
+        return fallback.acquire(key);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry, String name) {
+        CaffeineCacheMetrics.monitor(registry, leases, "rate-limit." + name);
+        fallback.bindTo(registry, name + ".local");
+    }
+
+    long size() {
+        leases.cleanUp();
+        return leases.estimatedSize();
+    }
+
+    private void refill(K key, Lease lease, long now) {
+        if (now < storeUnavailableUntil || now < lease.retryAt
+            || !lease.refilling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    apply(lease, store.lease(name + ":" + key, leaseSize, limit));
+                } catch (RuntimeException e) {
+                    if (clock.getAsLong() >= storeUnavailableUntil) {
+                        LOG.warn("Rate limit store unavailable, using per-replica limits for {}: {}",
+                            name, e.getMessage());
+                    }
+                    storeUnavailableUntil = clock.getAsLong() + failureBackoffMillis;
+                } finally {
+                    lease.refilling.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            lease.refilling.set(false);
+        }
+    }
+
+    private void apply(Lease lease, TokenLeaseStore.Lease granted) {
+        long now = clock.getAsLong();
+        if (granted.granted() > 0) {
+            if (now >= lease.expiresAt) {
+                // Unused tokens lapse with the old lease but its debt carries over
+                lease.tokens.accumulateAndGet(
+                    granted.granted(), (current, grant) -> Math.min(current, 0) + grant
+                );
+            } else {
+                lease.tokens.addAndGet(granted.granted());
+            }
+            lease.retryAt = 0;
+        } else {
+            lease.retryAt = now + Math.max(1, granted.retryAfterMillis());
+        }
+        lease.expiresAt = now + leaseTtlMillis;
+    }
+
+    private static final class Lease {
+
+        private final AtomicLong tokens = new AtomicLong();
+        private final AtomicBoolean refilling = new AtomicBoolean();
+        private volatile long expiresAt;
+        private volatile long retryAt;
+
+        // Unused tokens lapse with the lease so a stale replica cannot overshoot later.
+        // A negative floor lets the balance go into debt.
+        boolean tryTake(long now, long floor) {
+            if (now >= expiresAt) {
+                return false;
+            }
+            while (true) {
+                long current = tokens.get();
+                if (current <= floor) {
+                    return false;
+                }
+                if (tokens.compareAndSet(current, current - 1)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
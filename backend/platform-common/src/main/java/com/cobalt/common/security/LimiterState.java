@@ -0,0 +1,27 @@
+package com.cobalt.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+// Per-key limiter state that expires once a key has been idle long enough to be back at
+// its full allowance. Caffeine expires entries from its access-order queue as part of
+// normal reads and writes, so expiry costs amortized O(1) per entry and
+// no sweep ever walks the whole key set.
+final class LimiterState {
+
+    private LimiterState() {
+    }
+
+    static <K, V> Cache<K, V> expireAfterIdle(Duration idle, LongSupplier clockMillis) {
+        return Caffeine.newBuilder()
+            .expireAfterAccess(idle)
+            .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clockMillis.getAsLong()))
+            .scheduler(Scheduler.systemScheduler())
+            .recordStats()
+            .build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.cobalt.common.security;
+
+import com.cobalt.common.config.PasswordHashingProperties;
+import com.cobalt.common.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PasswordHashingExecutor {
+
+    private static final String BUSY_MESSAGE =
+        "Authentication is temporarily busy. Try again shortly.";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final long retryAfterSeconds;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingExecutor(
+        PasswordEncoder passwordEncoder,
+        PasswordHashingProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = properties.timeout().toMillis();
+        this.retryAfterSeconds = properties.retryAfterSeconds();
+        this.executor = new ThreadPoolExecutor(
+            properties.threads(),
+            properties.threads(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.queueCapacity()),
+            threadFactory(),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("cobalt.password.hash.queue.depth", executor, e -> e.getQueue().size())
+            .description("Password hashing tasks waiting for a worker")
+            .register(meterRegistry);
+        Gauge.builder("cobalt.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Password hashing tasks currently running")
+            .register(meterRegistry);
+        this.encodeTimer = Timer.builder("cobalt.password.hash.duration")
+            .tag("operation", "encode")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.matchesTimer = Timer.builder("cobalt.password.hash.duration")
+            .tag("operation", "matches")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("cobalt.password.hash.queue.wait")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("cobalt.password.hash.rejected")
+            .description("Password hashing requests rejected because the queue was full")
+            .register(meterRegistry);
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(
+            matchesTimer,
+            () -> passwordEncoder.matches(rawPassword, encodedPassword)
+        );
+    }
+
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Timer timer, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException(BUSY_MESSAGE, retryAfterSeconds);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceUnavailableException(BUSY_MESSAGE, retryAfterSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServiceUnavailableException(BUSY_MESSAGE, retryAfterSeconds);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static CustomizableThreadFactory threadFactory() {
+        CustomizableThreadFactory factory =
+            new CustomizableThreadFactory("password-hash-");
+        factory.setDaemon(true);
+        return factory;
+    }
+}
@@ -0,0 +1,24 @@
+package com.cobalt.common.security;
+
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+// GET /actuator/ratelimits: heaviest client IPs per auth limit in the current window
+@Component
+@Endpoint(id = "ratelimits")
+public class RateLimitEndpoint {
+
+    private final RateLimitFilter rateLimitFilter;
+
+    public RateLimitEndpoint(RateLimitFilter rateLimitFilter) {
+        this.rateLimitFilter = rateLimitFilter;
+    }
+
+    @ReadOperation
+    public Map<String, List<TopOffenders.Offender>> topOffenders() {
+        return rateLimitFilter.topOffenders();
+    }
+}
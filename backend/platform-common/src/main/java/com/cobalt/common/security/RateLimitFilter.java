@@ -1,6 +1,8 @@
 package com.cobalt.common.security;
 
 import com.cobalt.common.config.RateLimitProperties;
+import com.cobalt.common.diagnostics.RateLimitDecisionEvent;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,26 +11,38 @@ import java.io.IOException;
 import java.net.URI;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 @Component
 public class RateLimitFilter extends OncePerRequestFilter {
 
-    private final int loginLimit;
-    private final int registerLimit;
-    private final ConcurrentMap<String, SlidingWindowCounter> loginCounters = new ConcurrentHashMap<>();
-    private final ConcurrentMap<String, SlidingWindowCounter> registerCounters = new ConcurrentHashMap<>();
+    private final RateLimiter<String> loginLimiter;
+    private final RateLimiter<String> registerLimiter;
+    private final ClientIpResolver clientIpResolver;
 
-    public RateLimitFilter(RateLimitProperties properties) {
-        this.loginLimit = properties.auth().loginPerMinute();
-        this.registerLimit = properties.auth().registerPerMinute();
+    public RateLimitFilter(
+        RateLimitProperties properties,
+        MeterRegistry meterRegistry,
+        ClientIpResolver clientIpResolver
+    ) {
+        this.clientIpResolver = clientIpResolver;
+        RateLimitProperties.Auth auth = properties.auth();
+        if (auth.sketch().enabled()) {
+            // One map entry per client IP is unbounded under a distributed attack
+            this.loginLimiter = sketchLimiter(auth.loginPerMinute(), auth.sketch());
+            this.registerLimiter = sketchLimiter(auth.registerPerMinute(), auth.sketch());
+        } else {
+            this.loginLimiter = RateLimiter.perMinute(auth.loginPerMinute(), auth.login());
+            this.registerLimiter = RateLimiter.perMinute(auth.registerPerMinute(), auth.register());
+        }
+        loginLimiter.bindTo(meterRegistry, "login");
+        registerLimiter.bindTo(meterRegistry, "register");
     }
 
     @Override
@@ -38,31 +52,29 @@ public class RateLimitFilter extends OncePerRequestFilter {
         FilterChain filterChain
     ) throws ServletException, IOException {
         String path = request.getRequestURI();
-        String clientIp = resolveClientIp(request);
+        String clientIp = clientIpResolver.resolve(request);
 
+        long retryAfterMillis = 0;
         if (path.startsWith("/api/v1/auth/login")) {
-            if (!tryConsume(loginCounters, clientIp, loginLimit)) {
-                writeRateLimitResponse(response);
-                return;
-            }
+            retryAfterMillis = loginLimiter.acquire(clientIp);
+            RateLimitDecisionEvent.record("login", clientIp, retryAfterMillis);
         } else if (path.startsWith("/api/v1/auth/register")) {
-            if (!tryConsume(registerCounters, clientIp, registerLimit)) {
-                writeRateLimitResponse(response);
-                return;
-            }
+            retryAfterMillis = registerLimiter.acquire(clientIp);
+            RateLimitDecisionEvent.record("register", clientIp, retryAfterMillis);
+        }
+        if (retryAfterMillis > 0) {
+            writeRateLimitResponse(response, retryAfterMillis);
+            return;
         }
 
         filterChain.doFilter(request, response);
     }
 
-    @Scheduled(fixedRate = 60000)
-    public void evictExpiredEntries() {
-        long now = System.currentTimeMillis();
-        loginCounters.entrySet().removeIf(
-            entry -> entry.getValue().isExpired(now)
-        );
-        registerCounters.entrySet().removeIf(
-            entry -> entry.getValue().isExpired(now)
+    // Empty unless the fixed-memory sketch mode is enabled
+    public Map<String, List<TopOffenders.Offender>> topOffenders() {
+        return Map.of(
+            "login", topOffenders(loginLimiter),
+            "register", topOffenders(registerLimiter)
         );
     }
 
@@ -73,27 +85,24 @@ public class RateLimitFilter extends OncePerRequestFilter {
             && !path.startsWith("/api/v1/auth/register");
     }
 
-    private boolean tryConsume(
-        ConcurrentMap<String, SlidingWindowCounter> counters,
-        String key,
-        int limit
-    ) {
-        SlidingWindowCounter counter = counters.computeIfAbsent(
-            key, k -> new SlidingWindowCounter(Duration.ofMinutes(1))
-        );
-        return counter.tryIncrement(limit);
+    private static List<TopOffenders.Offender> topOffenders(RateLimiter<String> limiter) {
+        return limiter instanceof CountMinSketchRateLimiter<String> sketch
+            ? sketch.topOffenders()
+            : List.of();
     }
 
-    private String resolveClientIp(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isBlank()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        return request.getRemoteAddr();
+    private static RateLimiter<String> sketchLimiter(
+        int perMinute,
+        RateLimitProperties.Sketch sketch
+    ) {
+        return new CountMinSketchRateLimiter<>(
+            perMinute, Duration.ofMinutes(1), sketch.width(), sketch.depth(), sketch.topK()
+        );
     }
 
-    private void writeRateLimitResponse(HttpServletResponse response) throws IOException {
-        long retryAfter = 60;
+    private void writeRateLimitResponse(HttpServletResponse response, long retryAfterMillis)
+        throws IOException {
+        long retryAfter = Math.ceilDiv(retryAfterMillis, 1000);
         response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
         response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
         response.setHeader("Retry-After", String.valueOf(retryAfter));
@@ -117,34 +126,4 @@ public class RateLimitFilter extends OncePerRequestFilter {
                 )
         );
     }
-
-    private static class SlidingWindowCounter {
-
-        private final Duration window;
-        private long windowStart;
-        private int count;
-
-        SlidingWindowCounter(Duration window) {
-            this.window = window;
-            this.windowStart = System.currentTimeMillis();
-            this.count = 0;
-        }
-
-        synchronized boolean tryIncrement(int limit) {
-            long now = System.currentTimeMillis();
-            if (now - windowStart > window.toMillis()) {
-                windowStart = now;
-                count = 0;
-            }
-            if (count >= limit) {
-                return false;
-            }
-            count++;
-            return true;
-        }
-
-        boolean isExpired(long now) {
-            return now - windowStart > window.toMillis() * 2;
-        }
-    }
 }
@@ -0,0 +1,23 @@
+package com.cobalt.common.security;
+
+import com.cobalt.common.config.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+
+public interface RateLimiter<K> {
+
+    // 0 when the request is admitted, otherwise the millis until a retry can succeed
+    long acquire(K key);
+
+    // Registers size, hit and eviction metrics for the per-key state, if the limiter keeps any
+    default void bindTo(MeterRegistry registry, String name) {
+    }
+
+    static <K> RateLimiter<K> perMinute(int limit, RateLimitProperties.Policy policy) {
+        int burst = policy.burstFor(limit);
+        return switch (policy.algorithm()) {
+            case GCRA -> new GcraRateLimiter<>(limit, Duration.ofMinutes(1), burst);
+            case TOKEN_BUCKET -> new TokenBucketRateLimiter<>(limit, Duration.ofMinutes(1), burst);
+        };
+    }
+}
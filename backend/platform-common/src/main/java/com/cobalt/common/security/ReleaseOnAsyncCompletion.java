@@ -0,0 +1,41 @@
+package com.cobalt.common.security;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Runs a release exactly once when an async (e.g. streamed) response finishes, however it ends
+final class ReleaseOnAsyncCompletion implements AsyncListener {
+
+    private final Runnable release;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    ReleaseOnAsyncCompletion(Runnable release) {
+        this.release = release;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        release();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        release();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        release();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+
+    private void release() {
+        if (released.compareAndSet(false, true)) {
+            release.run();
+        }
+    }
+}
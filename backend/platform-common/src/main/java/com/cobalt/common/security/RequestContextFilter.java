@@ -1,11 +1,12 @@
 package com.cobalt.common.security;
 
+import com.cobalt.common.tracing.RequestIds;
+import com.cobalt.common.tracing.TraceParent;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.UUID;
 import org.slf4j.MDC;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
@@ -22,17 +23,23 @@ public class RequestContextFilter extends OncePerRequestFilter {
         HttpServletResponse response,
         FilterChain filterChain
     ) throws ServletException, IOException {
-        String requestId = request.getHeader("X-Request-ID");
-        if (requestId == null || requestId.isBlank()) {
-            requestId = UUID.randomUUID().toString();
+        String requestId = request.getHeader(RequestIds.HEADER);
+        if (!RequestIds.isAcceptable(requestId)) {
+            requestId = RequestIds.next();
         }
+        // Continue the caller's trace under a span of our own, or start a new one
+        TraceParent incoming = TraceParent.parse(request.getHeader(TraceParent.HEADER));
+        TraceParent trace = incoming != null ? incoming.child() : TraceParent.newRoot();
 
         try {
-            MDC.put("requestId", requestId);
+            MDC.put(RequestIds.MDC_KEY, requestId);
+            MDC.put(TraceParent.TRACE_ID_KEY, trace.traceId());
+            MDC.put(TraceParent.SPAN_ID_KEY, trace.parentId());
+            MDC.put(TraceParent.FLAGS_KEY, trace.flags());
             MDC.put("method", request.getMethod());
             MDC.put("path", request.getRequestURI());
 
-            response.setHeader("X-Request-ID", requestId);
+            response.setHeader(RequestIds.HEADER, requestId);
 
             filterChain.doFilter(request, response);
         } finally {
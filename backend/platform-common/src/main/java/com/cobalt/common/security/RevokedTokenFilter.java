@@ -0,0 +1,92 @@
+package com.cobalt.common.security;
+
+import com.cobalt.common.config.RefreshTokenProperties;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Component;
+
+// Bloom filter over revoked token ids. A negative answer is definitive; a positive one
+// must be confirmed against the revocation store. Entries cannot be removed, so owners
+// rebuild it periodically from the ids that have not yet expired.
+@Component
+public class RevokedTokenFilter {
+
+    private static final VarHandle WORDS =
+        MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long bitCount;
+    private final int hashCount;
+    private volatile long[] bits;
+    private volatile long[] rebuilding;
+
+    public RevokedTokenFilter(RefreshTokenProperties properties) {
+        double n = properties.expectedRevocations();
+        double ln2 = Math.log(2);
+        long requestedBits = (long) Math.ceil(
+            -n * Math.log(properties.falsePositiveRate()) / (ln2 * ln2)
+        );
+        int words = (int) Math.min((requestedBits + 63) / 64, Integer.MAX_VALUE - 8);
+        this.bitCount = words * 64L;
+        this.hashCount = (int) Math.max(1, Math.round(bitCount / n * ln2));
+        this.bits = new long[words];
+    }
+
+    public boolean mightContain(UUID tokenId) {
+        long[] current = bits;
+        long h1 = mix(tokenId.getMostSignificantBits());
+        long h2 = mix(tokenId.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            long word = (long) WORDS.getAcquire(current, (int) (bit >>> 6));
+            if ((word & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Reads the rebuild flag before the live array: seeing no rebuild means either none
+    // has started, so the id is already stored where the rebuild query will find it, or
+    // the swap has happened and `bits` is the new array
+    public void add(UUID tokenId) {
+        long[] pending = rebuilding;
+        set(bits, tokenId);
+        if (pending != null) {
+            set(pending, tokenId);
+        }
+    }
+
+    // Ids added while the rebuild runs go into both arrays so they survive the swap. The
+    // ids are queried only once the rebuild has started, so an id stored after the query
+    // began is still seen by add()
+    public void rebuild(Supplier<Stream<UUID>> revokedTokenIds) {
+        long[] fresh = new long[bits.length];
+        rebuilding = fresh;
+        try (Stream<UUID> tokenIds = revokedTokenIds.get()) {
+            tokenIds.forEach(tokenId -> set(fresh, tokenId));
+            bits = fresh;
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private void set(long[] target, UUID tokenId) {
+        long h1 = mix(tokenId.getMostSignificantBits());
+        long h2 = mix(tokenId.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            WORDS.getAndBitwiseOrRelease(target, (int) (bit >>> 6), 1L << bit);
+        }
+    }
+
+    // SplitMix64 finaliser
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,38 @@
+package com.cobalt.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Lock-free per-tenant in-flight counters. A counter that has not been touched for the idle
+// period expires; a request still running at that point releases into the expired counter,
+// which can only let the tenant briefly exceed its cap, never lock it out.
+public class TenantBulkhead {
+
+    private final Cache<UUID, AtomicInteger> inFlight;
+
+    public TenantBulkhead(Duration idle) {
+        this.inFlight = LimiterState.expireAfterIdle(idle, System::currentTimeMillis);
+    }
+
+    // Returns the counter that was incremented, or null when the tenant is at its cap
+    public AtomicInteger tryAcquire(UUID tenantId, int cap) {
+        AtomicInteger counter = inFlight.get(tenantId, id -> new AtomicInteger());
+        while (true) {
+            int current = counter.get();
+            if (current >= cap) {
+                return null;
+            }
+            if (counter.compareAndSet(current, current + 1)) {
+                return counter;
+            }
+        }
+    }
+
+    public int inFlight(UUID tenantId) {
+        // Read quietly so metric scrapes do not keep idle tenants alive
+        AtomicInteger counter = inFlight.policy().getIfPresentQuietly(tenantId);
+        return counter != null ? counter.get() : 0;
+    }
+}
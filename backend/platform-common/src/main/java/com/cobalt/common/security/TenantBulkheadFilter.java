@@ -0,0 +1,140 @@
+package com.cobalt.common.security;
+
+import com.cobalt.common.config.BulkheadProperties;
+import com.cobalt.common.datasource.TenantPlanResolver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// Rate limits bound how often a tenant may call; this bounds how many of its requests may
+// run at once, so a tenant with slow requests cannot hold every request thread.
+@Component
+public class TenantBulkheadFilter extends OncePerRequestFilter {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final boolean enabled;
+    private final BulkheadProperties properties;
+    private final TenantPlanResolver planResolver;
+    private final TenantBulkhead bulkhead = new TenantBulkhead(Duration.ofMinutes(10));
+    private final MeterRegistry meterRegistry;
+    private final Set<UUID> gaugedTenants = ConcurrentHashMap.newKeySet();
+    private final Counter rejected;
+
+    public TenantBulkheadFilter(
+        BulkheadProperties properties,
+        ObjectProvider<TenantPlanResolver> planResolver,
+        MeterRegistry meterRegistry
+    ) {
+        this.enabled = properties.enabled();
+        this.properties = properties;
+        this.planResolver = planResolver.getIfAvailable(() -> tenantId -> null);
+        this.meterRegistry = meterRegistry;
+        this.rejected = Counter.builder("cobalt.bulkhead.rejected")
+            .description("Requests rejected because their tenant was at its in-flight cap")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        UUID tenantId = TenantContext.getCurrentTenantId();
+        if (tenantId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        int cap = properties.limitFor(planResolver.planFor(tenantId));
+        AtomicInteger inFlight = bulkhead.tryAcquire(tenantId, cap);
+        if (inFlight == null) {
+            rejected.increment();
+            writeBulkheadResponse(response, cap);
+            return;
+        }
+        registerGauge(tenantId);
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(
+                    new ReleaseOnAsyncCompletion(inFlight::decrementAndGet)
+                );
+            } else {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled) {
+            return true;
+        }
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth == null || !auth.isAuthenticated()
+            || "anonymousUser".equals(auth.getPrincipal());
+    }
+
+    // The tag set is capped so the registry does not grow with the tenant count
+    private void registerGauge(UUID tenantId) {
+        if (gaugedTenants.contains(tenantId)
+            || gaugedTenants.size() >= properties.taggedTenants()
+            || !gaugedTenants.add(tenantId)) {
+            return;
+        }
+        Gauge.builder("cobalt.bulkhead.inflight", () -> bulkhead.inFlight(tenantId))
+            .description("Requests in flight for the tenant")
+            .tag("tenant", tenantId.toString())
+            .register(meterRegistry);
+    }
+
+    private void writeBulkheadResponse(HttpServletResponse response, int cap)
+        throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setHeader("Retry-After", String.valueOf(RETRY_AFTER_SECONDS));
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+            HttpStatus.TOO_MANY_REQUESTS,
+            "Tenant has " + cap + " requests in progress. Try again when one completes."
+        );
+        problem.setTitle("Too Many Requests");
+        problem.setType(URI.create("https://cobalt.com/errors/rate-limit"));
+        problem.setProperty("retryAfterSeconds", RETRY_AFTER_SECONDS);
+        problem.setProperty("timestamp", Instant.now().toString());
+        response.getWriter().write(
+            """
+            {"type":"%s","title":"%s","status":%d,"detail":"%s","retryAfterSeconds":%d}"""
+                .formatted(
+                    problem.getType(),
+                    problem.getTitle(),
+                    problem.getStatus(),
+                    problem.getDetail(),
+                    RETRY_AFTER_SECONDS
+                )
+        );
+    }
+}
@@ -2,22 +2,70 @@ package com.cobalt.common.security;
 
 import java.util.UUID;
 
+// The current request's tenant. It is bound for the extent of a call rather than set and
+// cleared, which is the shape ScopedValue requires; the binding itself sits behind Holder
+// so it can move to a ScopedValue once that API is final on the runtime we target (it is a
+// preview API in Java 21). The ThreadLocal holder is safe on virtual threads: nothing here
+// synchronizes, so nothing can pin a carrier.
 public final class TenantContext {
 
-    private static final ThreadLocal<UUID> CURRENT_TENANT = new ThreadLocal<>();
+    private static final Holder HOLDER = new ThreadLocalHolder();
 
     private TenantContext() {
     }
 
     public static UUID getCurrentTenantId() {
-        return CURRENT_TENANT.get();
+        return HOLDER.get();
     }
 
-    public static void setCurrentTenantId(UUID tenantId) {
-        CURRENT_TENANT.set(tenantId);
+    // Binds tenantId while action runs and restores the previous binding afterwards
+    public static <X1 extends Throwable, X2 extends Throwable> void runWithTenant(
+        UUID tenantId,
+        ScopedAction<X1, X2> action
+    ) throws X1, X2 {
+        HOLDER.run(tenantId, action);
     }
 
-    public static void clear() {
-        CURRENT_TENANT.remove();
+    @FunctionalInterface
+    public interface ScopedAction<X1 extends Throwable, X2 extends Throwable> {
+        void run() throws X1, X2;
+    }
+
+    interface Holder {
+
+        UUID get();
+
+        <X1 extends Throwable, X2 extends Throwable> void run(
+            UUID tenantId,
+            ScopedAction<X1, X2> action
+        ) throws X1, X2;
+    }
+
+    static final class ThreadLocalHolder implements Holder {
+
+        private final ThreadLocal<UUID> current = new ThreadLocal<>();
+
+        @Override
+        public UUID get() {
+            return current.get();
+        }
+
+        @Override
+        public <X1 extends Throwable, X2 extends Throwable> void run(
+            UUID tenantId,
+            ScopedAction<X1, X2> action
+        ) throws X1, X2 {
+            UUID previous = current.get();
+            current.set(tenantId);
+            try {
+                action.run();
+            } finally {
+                if (previous == null) {
+                    current.remove();
+                } else {
+                    current.set(previous);
+                }
+            }
+        }
     }
 }
@@ -1,6 +1,8 @@
 package com.cobalt.common.security;
 
 import com.cobalt.common.config.RateLimitProperties;
+import com.cobalt.common.diagnostics.RateLimitDecisionEvent;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,12 +12,14 @@ import java.net.URI;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -24,11 +28,50 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Component
 public class TenantRateLimitFilter extends OncePerRequestFilter {
 
-    private final int requestsPerMinute;
-    private final ConcurrentMap<UUID, SlidingWindowCounter> counters = new ConcurrentHashMap<>();
+    private final RateLimiter<UUID> limiter;
+    private final ThreadPoolExecutor leaseRefills;
 
-    public TenantRateLimitFilter(RateLimitProperties properties) {
-        this.requestsPerMinute = properties.tenant().requestsPerMinute();
+    public TenantRateLimitFilter(
+        RateLimitProperties properties,
+        ObjectProvider<TokenLeaseStore> leaseStore,
+        MeterRegistry meterRegistry
+    ) {
+        RateLimitProperties.Tenant tenant = properties.tenant();
+        RateLimitProperties.Cluster cluster = properties.cluster();
+        RateLimiter<UUID> local = RateLimiter.perMinute(
+            tenant.requestsPerMinute(), tenant.policy()
+        );
+        TokenLeaseStore store = cluster.enabled() ? leaseStore.getIfAvailable() : null;
+        if (store == null) {
+            this.limiter = local;
+            this.leaseRefills = null;
+            limiter.bindTo(meterRegistry, "tenant");
+            return;
+        }
+
+        CustomizableThreadFactory threadFactory =
+            new CustomizableThreadFactory("rate-limit-lease-");
+        threadFactory.setDaemon(true);
+        // At most one refill per tenant is in flight, so the queue only overflows if the
+        // store stalls; a rejected refill is retried by the tenant's next request
+        this.leaseRefills = new ThreadPoolExecutor(
+            2, 2, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1024), threadFactory
+        );
+        this.limiter = new LeasedRateLimiter<>(
+            "tenant",
+            store,
+            new TokenLeaseStore.Limit(
+                tenant.requestsPerMinute(),
+                Duration.ofMinutes(1),
+                tenant.policy().burstFor(tenant.requestsPerMinute())
+            ),
+            local,
+            cluster.leaseSize(),
+            cluster.leaseTtl(),
+            cluster.failureBackoff(),
+            leaseRefills
+        );
+        limiter.bindTo(meterRegistry, "tenant");
     }
 
     @Override
@@ -39,11 +82,10 @@ public class TenantRateLimitFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         UUID tenantId = resolveTenantId();
         if (tenantId != null) {
-            SlidingWindowCounter counter = counters.computeIfAbsent(
-                tenantId, k -> new SlidingWindowCounter(Duration.ofMinutes(1))
-            );
-            if (!counter.tryIncrement(requestsPerMinute)) {
-                writeRateLimitResponse(response);
+            long retryAfterMillis = limiter.acquire(tenantId);
+            RateLimitDecisionEvent.record("tenant", tenantId, retryAfterMillis);
+            if (retryAfterMillis > 0) {
+                writeRateLimitResponse(response, retryAfterMillis);
                 return;
             }
         }
@@ -51,12 +93,11 @@ public class TenantRateLimitFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    @Scheduled(fixedRate = 60000)
-    public void evictExpiredEntries() {
-        long now = System.currentTimeMillis();
-        counters.entrySet().removeIf(
-            entry -> entry.getValue().isExpired(now)
-        );
+    @Override
+    public void destroy() {
+        if (leaseRefills != null) {
+            leaseRefills.shutdownNow();
+        }
     }
 
     @Override
@@ -70,8 +111,9 @@ public class TenantRateLimitFilter extends OncePerRequestFilter {
         return TenantContext.getCurrentTenantId();
     }
 
-    private void writeRateLimitResponse(HttpServletResponse response) throws IOException {
-        long retryAfter = 60;
+    private void writeRateLimitResponse(HttpServletResponse response, long retryAfterMillis)
+        throws IOException {
+        long retryAfter = Math.ceilDiv(retryAfterMillis, 1000);
         response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
         response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
         response.setHeader("Retry-After", String.valueOf(retryAfter));
@@ -95,34 +137,4 @@ public class TenantRateLimitFilter extends OncePerRequestFilter {
                 )
         );
     }
-
-    private static class SlidingWindowCounter {
-
-        private final Duration window;
-        private long windowStart;
-        private int count;
-
-        SlidingWindowCounter(Duration window) {
-            this.window = window;
-            this.windowStart = System.currentTimeMillis();
-            this.count = 0;
-        }
-
-        synchronized boolean tryIncrement(int limit) {
-            long now = System.currentTimeMillis();
-            if (now - windowStart > window.toMillis()) {
-                windowStart = now;
-                count = 0;
-            }
-            if (count >= limit) {
-                return false;
-            }
-            count++;
-            return true;
-        }
-
-        boolean isExpired(long now) {
-            return now - windowStart > window.toMillis() * 2;
-        }
-    }
 }
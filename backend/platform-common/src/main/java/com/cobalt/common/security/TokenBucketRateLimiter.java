@@ -0,0 +1,117 @@
+package com.cobalt.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Per-key token buckets holding up to `capacity` tokens, refilled at `rate` per `period`.
+// Each bucket packs its refill timestamp and token count into one AtomicLong, so
+// acquiring is a single CAS and a denied request never writes shared state.
+public class TokenBucketRateLimiter<K> implements RateLimiter<K> {
+
+    private static final int TOKEN_BITS = 22;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    static final int MAX_CAPACITY = (int) TOKEN_MASK;
+
+    private final Cache<K, Bucket> buckets;
+    private final int rate;
+    private final int capacity;
+    private final long periodMillis;
+    private final long fullRefillMillis;
+    private final LongSupplier clock;
+
+    public TokenBucketRateLimiter(int rate, Duration period) {
+        this(rate, period, rate);
+    }
+
+    public TokenBucketRateLimiter(int rate, Duration period, int capacity) {
+        this(rate, period, capacity, System::currentTimeMillis);
+    }
+
+    TokenBucketRateLimiter(int rate, Duration period, int capacity, LongSupplier clock) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException(
+                "Capacity must be between 1 and " + MAX_CAPACITY + ": " + capacity
+            );
+        }
+        if (rate <= 0 || rate > MAX_CAPACITY) {
+            throw new IllegalArgumentException(
+                "Rate must be between 1 and " + MAX_CAPACITY + ": " + rate
+            );
+        }
+        if (period.toMillis() <= 0) {
+            throw new IllegalArgumentException("Period must be at least 1ms: " + period);
+        }
+        this.rate = rate;
+        this.capacity = capacity;
+        this.periodMillis = period.toMillis();
+        this.fullRefillMillis = Math.ceilDiv(capacity * periodMillis, rate);
+        this.clock = clock;
+        // An untouched bucket is full again after fullRefillMillis and can be recreated
+        this.buckets = LimiterState.expireAfterIdle(Duration.ofMillis(fullRefillMillis), clock);
+    }
+
+    @Override
+    public long acquire(K key) {
+        long now = clock.getAsLong();
+        return buckets.get(key, k -> new Bucket(now)).acquire(now);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry, String name) {
+        CaffeineCacheMetrics.monitor(registry, buckets, "rate-limit." + name);
+    }
+
+    long size() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    private final class Bucket {
+
+        private final long origin;
+        // [42 bits: millis since origin of the last refill][22 bits: tokens]
+        private final AtomicLong state;
+
+        Bucket(long now) {
+            this.origin = now;
+            this.state = new AtomicLong(capacity);
+        }
+
+        long acquire(long now) {
+            long elapsedSinceOrigin = now - origin;
+            while (true) {
+                long current = state.get();
+                long stamp = current >>> TOKEN_BITS;
+                long tokens = current & TOKEN_MASK;
+                long elapsed = elapsedSinceOrigin - stamp;
+
+                // A full bucket earns nothing while it waits, so its refill clock restarts
+                // now; otherwise the idle time would be credited again once it is drawn on
+                if (elapsed >= fullRefillMillis || (elapsed > 0 && tokens == capacity)) {
+                    tokens = capacity;
+                    stamp = elapsedSinceOrigin;
+                } else if (elapsed > 0) {
+                    long refill = elapsed * rate / periodMillis;
+                    if (refill > 0) {
+                        tokens = Math.min(capacity, tokens + refill);
+                        // Advance only by the time the whole tokens took so fractions carry over
+                        stamp = tokens == capacity
+                            ? elapsedSinceOrigin
+                            : stamp + refill * periodMillis / rate;
+                    }
+                }
+                if (tokens == 0) {
+                    long sinceRefill = elapsedSinceOrigin - stamp;
+                    return Math.max(1, Math.ceilDiv(periodMillis, rate) - sinceRefill);
+                }
+                if (state.compareAndSet(current, (stamp << TOKEN_BITS) | (tokens - 1))) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
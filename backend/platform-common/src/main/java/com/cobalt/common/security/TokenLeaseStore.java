@@ -0,0 +1,17 @@
+package com.cobalt.common.security;
+
+import java.time.Duration;
+
+// Shared token buckets that replicas draw from in batches; see LeasedRateLimiter
+public interface TokenLeaseStore {
+
+    // Takes up to `requested` tokens from the bucket for `key`, creating it full if absent
+    Lease lease(String key, int requested, Limit limit);
+
+    record Limit(int rate, Duration period, int capacity) {
+    }
+
+    // retryAfterMillis is only meaningful when nothing was granted
+    record Lease(int granted, long retryAfterMillis) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.cobalt.common.security;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Bounded set of the heaviest keys seen by a sketch limiter. When full, a new key only
+// gets in by displacing the entry with the lowest estimate, so size stays at capacity
+// (plus at most one in-flight insert per thread) whatever the key cardinality.
+public class TopOffenders<K> {
+
+    private final int capacity;
+    private final ConcurrentMap<K, Entry> entries = new ConcurrentHashMap<>();
+    private volatile long admissionFloor;
+
+    TopOffenders(int capacity) {
+        this.capacity = capacity;
+    }
+
+    void admitted(K key, long estimate, long window) {
+        record(key, estimate, window, false);
+    }
+
+    void denied(K key, long estimate, long window) {
+        record(key, estimate, window, true);
+    }
+
+    List<Offender> snapshot(long oldestWindow) {
+        return entries.entrySet().stream()
+            .filter(entry -> entry.getValue().window >= oldestWindow)
+            .map(entry -> new Offender(
+                String.valueOf(entry.getKey()),
+                entry.getValue().estimate,
+                entry.getValue().denied.get()
+            ))
+            .sorted(Comparator.comparingLong(Offender::estimatedRequests).reversed())
+            .toList();
+    }
+
+    void evictBefore(long oldestWindow) {
+        entries.values().removeIf(entry -> entry.window < oldestWindow);
+        admissionFloor = 0;
+    }
+
+    private void record(K key, long estimate, long window, boolean denied) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            if (entries.size() >= capacity && !displaceLowest(estimate)) {
+                return;
+            }
+            entry = entries.computeIfAbsent(key, k -> new Entry());
+        }
+        if (entry.window != window) {
+            entry.window = window;
+            entry.denied.set(0);
+        }
+        entry.estimate = estimate;
+        if (denied) {
+            entry.denied.incrementAndGet();
+        }
+    }
+
+    private boolean displaceLowest(long estimate) {
+        if (estimate <= admissionFloor) {
+            return false;
+        }
+        K lowestKey = null;
+        long lowest = Long.MAX_VALUE;
+        for (var candidate : entries.entrySet()) {
+            if (candidate.getValue().estimate < lowest) {
+                lowest = candidate.getValue().estimate;
+                lowestKey = candidate.getKey();
+            }
+        }
+        if (lowestKey == null || estimate <= lowest) {
+            admissionFloor = lowest;
+            return false;
+        }
+        entries.remove(lowestKey);
+        return true;
+    }
+
+    public record Offender(String key, long estimatedRequests, long deniedRequests) {
+    }
+
+    private static final class Entry {
+
+        private final AtomicLong denied = new AtomicLong();
+        private volatile long estimate;
+        private volatile long window;
+    }
+}
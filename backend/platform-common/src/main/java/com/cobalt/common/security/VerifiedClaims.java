@@ -0,0 +1,20 @@
+package com.cobalt.common.security;
+
+public record VerifiedClaims(
+    String subject,
+    String tenantId,
+    String email,
+    String role,
+    String type,
+    long expiresAtMillis,
+    String tokenId
+) {
+
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+}
@@ -0,0 +1,165 @@
+package com.cobalt.common.security;
+
+import com.cobalt.common.concurrent.BoundedPool;
+import com.cobalt.common.config.TokenVerificationProperties;
+import com.cobalt.common.diagnostics.TokenVerificationEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+@Component
+public class VerifiedTokenCache {
+
+    private static final BoundedPool<MessageDigest> SHA_256 =
+        BoundedPool.perCore(VerifiedTokenCache::newDigest);
+
+    private final CompactJwtVerifier verifier;
+    private final Cache<TokenDigest, VerifiedToken> cache;
+
+    public VerifiedTokenCache(
+        CompactJwtVerifier verifier,
+        TokenVerificationProperties properties
+    ) {
+        this.verifier = verifier;
+        this.cache = properties.cache().enabled()
+            ? Caffeine.newBuilder()
+                .maximumSize(properties.cache().maximumSize())
+                .expireAfter(new ExpireAtTokenExpiry())
+                .build()
+            : null;
+    }
+
+    public JwtAuthentication verifyAccessToken(String token) {
+        TokenVerificationEvent event = new TokenVerificationEvent();
+        event.begin();
+        JwtAuthentication authentication = resolve(token, event);
+        event.end();
+        if (event.shouldCommit()) {
+            event.valid = authentication != null;
+            event.commit();
+        }
+        return authentication;
+    }
+
+    private JwtAuthentication resolve(String token, TokenVerificationEvent event) {
+        if (cache == null) {
+            VerifiedToken verified = verify(token);
+            return verified != null ? verified.authentication() : null;
+        }
+
+        TokenDigest digest = TokenDigest.of(token);
+        VerifiedToken cached = cache.getIfPresent(digest);
+        if (cached != null) {
+            event.cacheHit = true;
+            return cached.authentication();
+        }
+
+        VerifiedToken verified = verify(token);
+        if (verified == null) {
+            return null;
+        }
+        cache.put(digest, verified);
+        return verified.authentication();
+    }
+
+    public long estimatedSize() {
+        return cache != null ? cache.estimatedSize() : 0;
+    }
+
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    private VerifiedToken verify(String token) {
+        VerifiedClaims claims = verifier.verify(token);
+        if (claims == null || !claims.isAccessToken()
+            || claims.subject() == null || claims.tenantId() == null) {
+            return null;
+        }
+
+        JwtAuthentication authentication;
+        try {
+            authentication = new JwtAuthentication(
+                UUID.fromString(claims.subject()),
+                UUID.fromString(claims.tenantId()),
+                claims.email(),
+                claims.role()
+            );
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return new VerifiedToken(authentication, claims.expiresAtMillis());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record VerifiedToken(
+        JwtAuthentication authentication,
+        long expiresAtMillis
+    ) {
+    }
+
+    private record TokenDigest(long h0, long h1, long h2, long h3) {
+
+        static TokenDigest of(String token) {
+            MessageDigest digest = SHA_256.borrow();
+            ByteBuffer hash = ByteBuffer.wrap(
+                digest.digest(token.getBytes(StandardCharsets.UTF_8))
+            );
+            SHA_256.release(digest);
+            return new TokenDigest(
+                hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong()
+            );
+        }
+    }
+
+    private static final class ExpireAtTokenExpiry
+        implements Expiry<TokenDigest, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(
+            TokenDigest key,
+            VerifiedToken value,
+            long currentTime
+        ) {
+            long remainingMillis =
+                value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(
+            TokenDigest key,
+            VerifiedToken value,
+            long currentTime,
+            long currentDuration
+        ) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(
+            TokenDigest key,
+            VerifiedToken value,
+            long currentTime,
+            long currentDuration
+        ) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.cobalt.common.tracing;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.MDC;
+
+// Request IDs in UUIDv7 layout: a 48-bit millisecond timestamp followed by random bits, so
+// IDs sort by arrival and stay unique across services. The random bits come from
+// ThreadLocalRandom rather than the SecureRandom shared by UUID.randomUUID(); request IDs
+// are correlation handles, not secrets.
+public final class RequestIds {
+
+    public static final String HEADER = "X-Request-ID";
+    public static final String MDC_KEY = "requestId";
+
+    private static final int MAX_INBOUND_LENGTH = 128;
+
+    private RequestIds() {
+    }
+
+    public static String next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long millis = System.currentTimeMillis();
+        long mostSigBits = (millis << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+
+    // The ID of the request being handled on this thread, or a fresh one outside a request
+    public static String current() {
+        String requestId = MDC.get(MDC_KEY);
+        return requestId != null ? requestId : next();
+    }
+
+    // Callers may supply their own ID, but it ends up in every log line, so only short
+    // IDs made of URL-safe characters are kept
+    public static boolean isAcceptable(String requestId) {
+        if (requestId == null || requestId.isEmpty() || requestId.length() > MAX_INBOUND_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < requestId.length(); i++) {
+            char c = requestId.charAt(i);
+            boolean safe = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9') || c == '-' || c == '_' || c == '.' || c == ':';
+            if (!safe) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,108 @@
+package com.cobalt.common.tracing;
+
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.MDC;
+
+// W3C Trace Context "traceparent": version-traceId-parentId-flags, all lowercase hex.
+// parentId is the span that made the call; each service hop continues the trace under a
+// span ID of its own.
+public record TraceParent(String traceId, String parentId, String flags) {
+
+    public static final String HEADER = "traceparent";
+    public static final String TRACE_ID_KEY = "traceId";
+    public static final String SPAN_ID_KEY = "spanId";
+    public static final String FLAGS_KEY = "traceFlags";
+
+    private static final String VERSION = "00";
+    private static final String SAMPLED = "01";
+    private static final int LENGTH = 55;
+    private static final HexFormat HEX = HexFormat.of();
+
+    // Returns null for a missing or malformed header, which starts a new trace
+    public static TraceParent parse(String header) {
+        if (header == null) {
+            return null;
+        }
+        String value = header.trim();
+        if (value.length() < LENGTH
+            || value.charAt(2) != '-' || value.charAt(35) != '-' || value.charAt(52) != '-') {
+            return null;
+        }
+        String version = value.substring(0, 2);
+        if (!isLowerHex(version) || version.equals("ff")) {
+            return null;
+        }
+        // Version 00 is exactly 55 characters; later versions may append fields
+        if (version.equals(VERSION) ? value.length() != LENGTH
+            : value.length() > LENGTH && value.charAt(LENGTH) != '-') {
+            return null;
+        }
+        String traceId = value.substring(3, 35);
+        String parentId = value.substring(36, 52);
+        String flags = value.substring(53, 55);
+        if (!isLowerHex(traceId) || isZero(traceId)
+            || !isLowerHex(parentId) || isZero(parentId)
+            || !isLowerHex(flags)) {
+            return null;
+        }
+        return new TraceParent(traceId, parentId, flags);
+    }
+
+    public static TraceParent newRoot() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String traceId = HEX.toHexDigits(random.nextLong()) + HEX.toHexDigits(nonZero(random));
+        return new TraceParent(traceId, newSpanId(), SAMPLED);
+    }
+
+    // The context of the request being handled on this thread, or null outside a request
+    public static TraceParent current() {
+        String traceId = MDC.get(TRACE_ID_KEY);
+        String spanId = MDC.get(SPAN_ID_KEY);
+        if (traceId == null || spanId == null) {
+            return null;
+        }
+        String flags = MDC.get(FLAGS_KEY);
+        return new TraceParent(traceId, spanId, flags != null ? flags : SAMPLED);
+    }
+
+    public static String newSpanId() {
+        return HEX.toHexDigits(nonZero(ThreadLocalRandom.current()));
+    }
+
+    // Same trace, new span: the span this service handles an incoming request under
+    public TraceParent child() {
+        return new TraceParent(traceId, newSpanId(), flags);
+    }
+
+    public String toHeader() {
+        return VERSION + "-" + traceId + "-" + parentId + "-" + flags;
+    }
+
+    private static long nonZero(ThreadLocalRandom random) {
+        long value;
+        do {
+            value = random.nextLong();
+        } while (value == 0);
+        return value;
+    }
+
+    private static boolean isLowerHex(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isZero(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
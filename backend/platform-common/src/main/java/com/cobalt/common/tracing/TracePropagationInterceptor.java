@@ -0,0 +1,31 @@
+package com.cobalt.common.tracing;
+
+import java.io.IOException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+// Carries the current trace and request ID onto outgoing HTTP calls, so the services being
+// called log under the same trace. Headers the caller set explicitly are left alone.
+public class TracePropagationInterceptor implements ClientHttpRequestInterceptor {
+
+    @Override
+    public ClientHttpResponse intercept(
+        HttpRequest request,
+        byte[] body,
+        ClientHttpRequestExecution execution
+    ) throws IOException {
+        HttpHeaders headers = request.getHeaders();
+        TraceParent trace = TraceParent.current();
+        if (trace != null && !headers.containsKey(TraceParent.HEADER)) {
+            // This service's span is the parent of the work done downstream
+            headers.set(TraceParent.HEADER, trace.toHeader());
+        }
+        if (!headers.containsKey(RequestIds.HEADER)) {
+            headers.set(RequestIds.HEADER, RequestIds.current());
+        }
+        return execution.execute(request, body);
+    }
+}
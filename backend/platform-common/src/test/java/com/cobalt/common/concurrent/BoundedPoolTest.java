@@ -0,0 +1,60 @@
+package com.cobalt.common.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class BoundedPoolTest {
+
+    @Test
+    void borrow_afterRelease_reusesTheInstance() {
+        AtomicInteger created = new AtomicInteger();
+        BoundedPool<Object> pool = new BoundedPool<>(4, () -> {
+            created.incrementAndGet();
+            return new Object();
+        });
+
+        Object first = pool.borrow();
+        pool.release(first);
+
+        assertThat(pool.borrow()).isSameAs(first);
+        assertThat(created).hasValue(1);
+    }
+
+    @Test
+    void release_whenFull_dropsTheExtraInstances() {
+        BoundedPool<Object> pool = new BoundedPool<>(3, Object::new);
+        List<Object> borrowed = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            borrowed.add(pool.borrow());
+        }
+
+        borrowed.forEach(pool::release);
+
+        // Capacity rounds up to a power of two
+        assertThat(pool.idle()).isEqualTo(4);
+    }
+
+    @Test
+    void borrow_onVirtualThreads_createsFarFewerInstancesThanCalls() {
+        AtomicInteger created = new AtomicInteger();
+        BoundedPool<Object> pool = new BoundedPool<>(8, () -> {
+            created.incrementAndGet();
+            return new Object();
+        });
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10_000; i++) {
+                executor.submit(() -> pool.release(pool.borrow()));
+            }
+        }
+
+        assertThat(created.get()).isLessThan(1_000);
+        assertThat(pool.idle()).isLessThanOrEqualTo(8);
+    }
+}
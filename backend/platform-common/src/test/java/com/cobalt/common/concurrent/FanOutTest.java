@@ -0,0 +1,193 @@
+package com.cobalt.common.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.cobalt.common.config.DatabaseAdmissionProperties;
+import com.cobalt.common.config.FanOutProperties;
+import com.cobalt.common.datasource.TenantAdmissionDataSource;
+import com.cobalt.common.datasource.TenantPlanResolver;
+import com.cobalt.common.exception.ResourceNotFoundException;
+import com.cobalt.common.exception.ServiceUnavailableException;
+import com.cobalt.common.security.JwtAuthentication;
+import com.cobalt.common.security.TenantContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class FanOutTest {
+
+    private final UUID tenantId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+    private ThreadPoolTaskExecutor executor;
+    private FanOut fanOut;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.initialize();
+        fanOut = new FanOut(executor, new FanOutProperties(2, 10, Duration.ofMillis(500)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+        SecurityContextHolder.clearContext();
+        MDC.clear();
+    }
+
+    @Test
+    void invokeAll_runsTasksUnderCallersTenantAuthenticationAndMdc() throws Exception {
+        List<String> results = inRequest(() -> fanOut.invokeAll(List.<Callable<String>>of(
+            FanOutTest::describeContext,
+            FanOutTest::describeContext,
+            FanOutTest::describeContext
+        )));
+
+        String expected = tenantId + "|" + userId + "|req-1";
+        assertThat(results).containsExactly(expected, expected, expected);
+    }
+
+    @Test
+    void workerThreads_doNotKeepTheRequestContextAfterwards() throws Exception {
+        inRequest(() -> fanOut.invokeAll(List.<Callable<String>>of(FanOutTest::describeContext)));
+
+        // A task submitted without a request context must not see the previous one
+        assertThat(executor.submit(FanOutTest::describeContext).get(5, TimeUnit.SECONDS))
+            .isEqualTo("null|null|null");
+    }
+
+    @Test
+    void snapshot_restoresTheCallersOwnContextWhenRunInline() throws Exception {
+        UUID otherTenant = UUID.randomUUID();
+        RequestContextSnapshot snapshot = inRequest(RequestContextSnapshot::capture);
+
+        TenantContext.<Exception, RuntimeException>runWithTenant(otherTenant, () -> {
+            MDC.put("requestId", "req-2");
+            assertThat(snapshot.wrap((Callable<String>) FanOutTest::describeContext).call())
+                .isEqualTo(tenantId + "|" + userId + "|req-1");
+            assertThat(TenantContext.getCurrentTenantId()).isEqualTo(otherTenant);
+            assertThat(MDC.get("requestId")).isEqualTo("req-2");
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        });
+    }
+
+    @Test
+    void invokeAll_rethrowsTheFirstFailure() {
+        assertThatThrownBy(() -> fanOut.invokeAll(List.<Callable<String>>of(
+            () -> "ok",
+            () -> {
+                throw new ResourceNotFoundException("Tenant not found");
+            }
+        )))
+            .isInstanceOf(ResourceNotFoundException.class)
+            .hasMessage("Tenant not found");
+    }
+
+    @Test
+    void invokeAll_whenTasksOutliveTheTimeout_failsWith503AndCancelsThem() {
+        CountDownLatch never = new CountDownLatch(1);
+
+        assertThatThrownBy(() -> fanOut.invokeAll(List.<Callable<Boolean>>of(
+            () -> never.await(30, TimeUnit.SECONDS)
+        )))
+            .isInstanceOf(ServiceUnavailableException.class);
+        // Cancellation interrupts the task, freeing the worker
+        assertThat(fanOut.supplyAsync(() -> "next").join()).isEqualTo("next");
+    }
+
+    @Test
+    void invokeAll_whileHoldingAConnection_runsMoreTasksThanTheTenantLimit() throws Exception {
+        TenantAdmissionDataSource dataSource = new TenantAdmissionDataSource(
+            new ConnectionStub(), 10,
+            new DatabaseAdmissionProperties(true, 10, 2, Duration.ofMillis(200), null, 0),
+            new DefaultListableBeanFactory().getBeanProvider(TenantPlanResolver.class),
+            new SimpleMeterRegistry()
+        );
+        // Both workers hold a connection at once, next to the caller's
+        CountDownLatch bothHolding = new CountDownLatch(2);
+        Callable<Boolean> query = () -> {
+            try (Connection connection = dataSource.getConnection()) {
+                bothHolding.countDown();
+                return bothHolding.await(5, TimeUnit.SECONDS);
+            }
+        };
+
+        List<Boolean> results = inRequest(() -> {
+            try (Connection connection = dataSource.getConnection()) {
+                return fanOut.invokeAll(List.of(query, query, query));
+            }
+        });
+
+        assertThat(results).containsExactly(true, true, true);
+    }
+
+    @Test
+    void supplyAsync_propagatesContext() throws Exception {
+        String result = inRequest(() ->
+            fanOut.supplyAsync(FanOutTest::describeContext).get(5, TimeUnit.SECONDS)
+        );
+
+        assertThat(result).isEqualTo(tenantId + "|" + userId + "|req-1");
+    }
+
+    private <T> T inRequest(Callable<T> body) throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+            new JwtAuthentication(userId, tenantId, "user@example.com", "ADMIN")
+        );
+        MDC.put("requestId", "req-1");
+        AtomicReference<T> result = new AtomicReference<>();
+        try {
+            TenantContext.<Exception, RuntimeException>runWithTenant(
+                tenantId, () -> result.set(body.call())
+            );
+            return result.get();
+        } finally {
+            SecurityContextHolder.clearContext();
+            MDC.clear();
+        }
+    }
+
+    private static String describeContext() {
+        Object principal = SecurityContextHolder.getContext().getAuthentication() == null
+            ? null
+            : ((JwtAuthentication) SecurityContextHolder.getContext().getAuthentication())
+                .getUserId();
+        return TenantContext.getCurrentTenantId() + "|" + principal + "|" + MDC.get("requestId");
+    }
+
+    private static final class ConnectionStub extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() {
+            return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (proxy, method, args) -> null
+            );
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) {
+            return getConnection();
+        }
+    }
+}
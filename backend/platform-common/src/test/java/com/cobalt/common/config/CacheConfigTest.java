@@ -0,0 +1,132 @@
+package com.cobalt.common.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.cobalt.common.cache.MeteredCaffeineCacheManager;
+import com.cobalt.common.cache.NamedCacheLoader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+class CacheConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void namedCacheInheritsUnsetSettingsFromDefaults() {
+        CacheSpecProperties properties = new CacheSpecProperties(
+            new CacheSpecProperties.Spec(500L, null, Duration.ofMinutes(5), null, null),
+            Map.of("plans", new CacheSpecProperties.Spec(
+                null, 20L, null, Duration.ofMinutes(1), null
+            ))
+        );
+
+        CacheSpecProperties.Spec plans = properties.specFor("plans");
+        CacheSpecProperties.Spec other = properties.specFor("other");
+
+        assertThat(plans.maximumSize()).isNull();
+        assertThat(plans.maximumWeight()).isEqualTo(20L);
+        assertThat(plans.expireAfterWrite()).isEqualTo(Duration.ofMinutes(5));
+        assertThat(plans.expireAfterAccess()).isEqualTo(Duration.ofMinutes(1));
+        assertThat(other.maximumSize()).isEqualTo(500L);
+    }
+
+    @Test
+    void cachesCreatedOnFirstUseAreMetered() {
+        CacheManager manager = cacheManager(new CacheSpecProperties(null, null));
+
+        Cache cache = manager.getCache("lookups");
+        cache.put("a", "1");
+        cache.get("a");
+        cache.get("b");
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "lookups")
+            .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(MeteredCaffeineCacheManager.HIT_RATIO)
+            .tag("cache", "lookups").gauge().value()).isEqualTo(0.5);
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", "lookups")
+            .functionCounter()).isNotNull();
+    }
+
+    @Test
+    void staleEntriesAreReloadedInTheBackground() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CacheSpecProperties properties = new CacheSpecProperties(null, Map.of(
+            "plans", new CacheSpecProperties.Spec(null, null, null, null, Duration.ofMillis(50))
+        ));
+        CacheManager manager = cacheManager(
+            properties, loader("plans", key -> key + "-" + loads.incrementAndGet())
+        );
+        Cache cache = manager.getCache("plans");
+
+        assertThat(cache.get("pro").get()).isEqualTo("pro-1");
+        Thread.sleep(100);
+        // The stale value is served while the reload runs
+        assertThat(cache.get("pro").get()).isEqualTo("pro-1");
+        for (int i = 0; i < 100 && "pro-1".equals(cache.get("pro").get()); i++) {
+            Thread.sleep(10);
+        }
+        assertThat(cache.get("pro").get()).isEqualTo("pro-2");
+    }
+
+    @Test
+    void refreshWithoutLoaderIsRejected() {
+        CacheSpecProperties properties = new CacheSpecProperties(null, Map.of(
+            "plans", new CacheSpecProperties.Spec(null, null, null, null, Duration.ofMinutes(1))
+        ));
+
+        assertThatThrownBy(() -> cacheManager(properties))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("plans");
+    }
+
+    @Test
+    void maximumWeightCountsCollectionElements() {
+        CacheSpecProperties properties = new CacheSpecProperties(null, Map.of(
+            "lists", new CacheSpecProperties.Spec(null, 10L, null, null, null)
+        ));
+        CacheManager manager = cacheManager(properties);
+        @SuppressWarnings("unchecked")
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
+            (com.github.benmanes.caffeine.cache.Cache<Object, Object>)
+                manager.getCache("lists").getNativeCache();
+
+        nativeCache.put("a", List.of(1, 2, 3, 4, 5, 6));
+        nativeCache.put("b", List.of(1, 2, 3, 4, 5, 6));
+        nativeCache.cleanUp();
+
+        assertThat(nativeCache.estimatedSize()).isEqualTo(1);
+    }
+
+    private CacheManager cacheManager(CacheSpecProperties properties, NamedCacheLoader... loaders) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        for (int i = 0; i < loaders.length; i++) {
+            beanFactory.addBean("loader" + i, loaders[i]);
+        }
+        return new CacheConfig().cacheManager(
+            properties, beanFactory.getBeanProvider(NamedCacheLoader.class), meterRegistry
+        );
+    }
+
+    private static NamedCacheLoader loader(String cacheName, Function<Object, Object> load) {
+        return new NamedCacheLoader() {
+            @Override
+            public String cacheName() {
+                return cacheName;
+            }
+
+            @Override
+            public Object load(Object key) {
+                return load.apply(key);
+            }
+        };
+    }
+}
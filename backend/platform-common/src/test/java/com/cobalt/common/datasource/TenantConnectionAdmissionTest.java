@@ -0,0 +1,114 @@
+package com.cobalt.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TenantConnectionAdmissionTest {
+
+    private static final UUID BIG = UUID.randomUUID();
+    private static final UUID SMALL = UUID.randomUUID();
+    private static final UUID PREMIUM = UUID.randomUUID();
+
+    private final ExecutorService waiters = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        waiters.shutdownNow();
+    }
+
+    @Test
+    void acquire_capsEachTenantButNotOthers() throws Exception {
+        TenantConnectionAdmission admission = new TenantConnectionAdmission(10, 2);
+
+        assertThat(admission.acquire(BIG, 1, 0, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(admission.acquire(BIG, 1, 0, TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(admission.acquire(BIG, 1, 10, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(admission.acquire(SMALL, 1, 0, TimeUnit.MILLISECONDS)).isTrue();
+
+        assertThat(admission.inUse()).isEqualTo(3);
+        assertThat(admission.waiting()).isZero();
+    }
+
+    @Test
+    void release_handsTheConnectionToAWaitingTenant() throws Exception {
+        TenantConnectionAdmission admission = new TenantConnectionAdmission(1, 1);
+        admission.acquire(BIG, 1, 0, TimeUnit.MILLISECONDS);
+        BlockingQueue<UUID> admitted = new LinkedBlockingQueue<>();
+        enqueue(admission, SMALL, 1, admitted);
+        awaitWaiting(admission, 1);
+
+        admission.release(BIG);
+
+        assertThat(admitted.poll(5, TimeUnit.SECONDS)).isEqualTo(SMALL);
+        assertThat(admission.inUse()).isEqualTo(1);
+    }
+
+    @Test
+    void contendedConnections_areSharedByWeight() throws Exception {
+        TenantConnectionAdmission admission = new TenantConnectionAdmission(1, 1);
+        admission.acquire(BIG, 1, 0, TimeUnit.MILLISECONDS);
+        BlockingQueue<UUID> admitted = new LinkedBlockingQueue<>();
+        for (int i = 0; i < 4; i++) {
+            enqueue(admission, SMALL, 1, admitted);
+            enqueue(admission, PREMIUM, 3, admitted);
+        }
+        awaitWaiting(admission, 8);
+
+        admission.release(BIG);
+        List<UUID> order = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            UUID next = admitted.poll(5, TimeUnit.SECONDS);
+            order.add(next);
+            admission.release(next);
+        }
+
+        assertThat(order).filteredOn(PREMIUM::equals).hasSize(3);
+        assertThat(order).filteredOn(SMALL::equals).hasSize(1);
+    }
+
+    @Test
+    void timedOutWaiter_leavesTheQueue() throws Exception {
+        TenantConnectionAdmission admission = new TenantConnectionAdmission(1, 1);
+        admission.acquire(BIG, 1, 0, TimeUnit.MILLISECONDS);
+
+        assertThat(admission.acquire(SMALL, 1, 10, TimeUnit.MILLISECONDS)).isFalse();
+        admission.release(BIG);
+
+        assertThat(admission.waiting()).isZero();
+        assertThat(admission.inUse()).isZero();
+        assertThat(admission.acquire(SMALL, 1, 0, TimeUnit.MILLISECONDS)).isTrue();
+    }
+
+    private void enqueue(
+        TenantConnectionAdmission admission,
+        UUID tenantId,
+        int weight,
+        BlockingQueue<UUID> admitted
+    ) {
+        waiters.submit(() -> {
+            if (admission.acquire(tenantId, weight, 30, TimeUnit.SECONDS)) {
+                admitted.add(tenantId);
+            }
+            return null;
+        });
+    }
+
+    private static void awaitWaiting(TenantConnectionAdmission admission, int expected)
+        throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (admission.waiting() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(admission.waiting()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,106 @@
+package com.cobalt.common.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cobalt.common.config.JfrProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class JfrRecorderTest {
+
+    @TempDir
+    Path directory;
+
+    private JfrRecorder recorder;
+
+    @AfterEach
+    void tearDown() {
+        if (recorder != null) {
+            recorder.stop();
+        }
+    }
+
+    @Test
+    void snapshotContainsCustomEvents() throws Exception {
+        recorder = start(Duration.ofMinutes(1), 10);
+
+        TokenVerificationEvent event = new TokenVerificationEvent();
+        event.begin();
+        event.cacheHit = true;
+        event.valid = true;
+        event.commit();
+
+        JfrRecorder.Snapshot snapshot = recorder.snapshot();
+
+        assertThat(snapshot.name()).startsWith("manual-").endsWith(".jfr");
+        assertThat(snapshot.sizeBytes()).isPositive();
+        List<RecordedEvent> events = RecordingFile.readAllEvents(directory.resolve(snapshot.name()));
+        assertThat(events)
+            .filteredOn(recorded -> recorded.getEventType().getName().equals("cobalt.TokenVerification"))
+            .anySatisfy(recorded -> assertThat(recorded.getBoolean("cacheHit")).isTrue());
+    }
+
+    @Test
+    void snapshotLeavesOutEnvironmentPropertiesAndJvmArguments() throws Exception {
+        recorder = start(Duration.ofMinutes(1), 10);
+
+        JfrRecorder.Snapshot snapshot = recorder.snapshot();
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(directory.resolve(snapshot.name()));
+        assertThat(events).isNotEmpty();
+        assertThat(events)
+            .extracting(recorded -> recorded.getEventType().getName())
+            .doesNotContain(
+                "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation"
+            );
+    }
+
+    @Test
+    void slowRequestCaptureIsRateLimited() throws Exception {
+        recorder = start(Duration.ofMinutes(1), 10);
+
+        assertThat(recorder.onSlowRequest("first")).isTrue();
+        assertThat(recorder.onSlowRequest("second")).isFalse();
+    }
+
+    @Test
+    void onlyTheNewestSnapshotsAreKept() throws Exception {
+        recorder = start(Duration.ofMinutes(1), 2);
+
+        for (int i = 0; i < 4; i++) {
+            recorder.snapshot();
+            Thread.sleep(5);
+        }
+
+        assertThat(recorder.snapshots()).hasSize(2);
+    }
+
+    @Test
+    void findOnlyResolvesSnapshotNames() throws Exception {
+        recorder = start(Duration.ofMinutes(1), 10);
+        JfrRecorder.Snapshot snapshot = recorder.snapshot();
+
+        assertThat(recorder.find(snapshot.name())).isEqualTo(directory.resolve(snapshot.name()));
+        assertThat(recorder.find("../x.jfr")).isNull();
+        assertThat(recorder.find("missing.jfr")).isNull();
+        assertThat(recorder.find(null)).isNull();
+    }
+
+    private JfrRecorder start(Duration minInterval, int maxSnapshots) throws Exception {
+        JfrProperties properties = new JfrProperties(
+            true, "default", Duration.ofMinutes(1), DataSize.ofMegabytes(16),
+            Duration.ofSeconds(2), Duration.ofMinutes(1), minInterval, maxSnapshots, directory
+        );
+        JfrRecorder started = new JfrRecorder(properties, new SimpleMeterRegistry());
+        started.start();
+        return started;
+    }
+}
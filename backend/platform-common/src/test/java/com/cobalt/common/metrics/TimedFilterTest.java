@@ -0,0 +1,147 @@
+package com.cobalt.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cobalt.common.security.JwtAuthentication;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServlet;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class TimedFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PhaseTimers phaseTimers = new PhaseTimers(meterRegistry, 4);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void eachFilterIsChargedOnlyItsOwnTime() throws Exception {
+        List<Filter> filters = TimedFilter.wrapAll(
+            List.of(new OuterFilter(), new InnerFilter()), phaseTimers
+        );
+
+        run(filters, 60);
+
+        assertThat(selfTimeMillis("OuterFilter")).isBetween(20.0, 50.0);
+        assertThat(selfTimeMillis("InnerFilter")).isBetween(5.0, 35.0);
+    }
+
+    @Test
+    void filterThatAnswersTheRequestItself_isChargedItsWholeDuration() throws Exception {
+        List<Filter> filters = TimedFilter.wrapAll(
+            List.of(new RejectingFilter(), new InnerFilter()), phaseTimers
+        );
+
+        run(filters, 0);
+
+        assertThat(selfTimeMillis("RejectingFilter")).isGreaterThanOrEqualTo(20.0);
+        assertThat(timers("InnerFilter").stream().mapToLong(Timer::count).sum()).isZero();
+    }
+
+    @Test
+    void tenantsAreHashedIntoBuckets() throws Exception {
+        List<Filter> filters = TimedFilter.wrapAll(List.of(new InnerFilter()), phaseTimers);
+
+        for (int i = 0; i < 20; i++) {
+            SecurityContextHolder.getContext().setAuthentication(new JwtAuthentication(
+                UUID.randomUUID(), UUID.randomUUID(), "user@example.com", "ADMIN"
+            ));
+            run(filters, 0);
+        }
+
+        Collection<Timer> timers = timers("InnerFilter");
+        assertThat(timers).extracting(timer -> timer.getId().getTag("tenant"))
+            .containsExactlyInAnyOrder(
+                "bucket-0", "bucket-1", "bucket-2", "bucket-3", PhaseTimers.NO_TENANT
+            );
+        assertThat(timers.stream().mapToLong(Timer::count).sum()).isEqualTo(20);
+        assertThat(meterRegistry.get(PhaseTimers.METRIC).tag("tenant", PhaseTimers.NO_TENANT)
+            .timer().count()).isZero();
+    }
+
+    @Test
+    void timersPublishOnlyTheFixedBuckets() throws Exception {
+        run(TimedFilter.wrapAll(List.of(new InnerFilter()), phaseTimers), 0);
+
+        assertThat(timers("InnerFilter")).allSatisfy(timer ->
+            assertThat(timer.takeSnapshot().histogramCounts())
+                .hasSize(PhaseTimers.BUCKETS.length)
+        );
+    }
+
+    private void run(List<Filter> filters, long servletMillis) throws Exception {
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            public void service(ServletRequest request, ServletResponse response) {
+                sleep(servletMillis);
+            }
+        };
+        new MockFilterChain(servlet, filters.toArray(Filter[]::new))
+            .doFilter(new MockHttpServletRequest(), new MockHttpServletResponse());
+    }
+
+    private Collection<Timer> timers(String filter) {
+        return meterRegistry.find(PhaseTimers.METRIC).tag("name", filter).timers();
+    }
+
+    private double selfTimeMillis(String filter) {
+        return timers(filter).stream()
+            .mapToDouble(timer -> timer.totalTime(TimeUnit.MILLISECONDS))
+            .sum();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 15ms before and 15ms after the rest of the chain
+    private static final class OuterFilter implements Filter {
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+            sleep(15);
+            chain.doFilter(request, response);
+            sleep(15);
+        }
+    }
+
+    // 10ms before the rest of the chain
+    private static final class InnerFilter implements Filter {
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+            sleep(10);
+            chain.doFilter(request, response);
+        }
+    }
+
+    private static final class RejectingFilter implements Filter {
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) {
+            sleep(20);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.cobalt.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = 10_000_000;
+
+    @Test
+    void tryAcquire_rejectsOnceTheLimitIsInFlight() {
+        AdaptiveConcurrencyLimit limit = newLimit(3);
+
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isFalse();
+
+        limit.release(FAST, false);
+        assertThat(limit.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void limit_growsWhileSaturatedAndLatencyIsSteady() {
+        AdaptiveConcurrencyLimit limit = newLimit(10);
+
+        runWindows(limit, 20, FAST);
+
+        assertThat(limit.limit()).isGreaterThan(20);
+    }
+
+    @Test
+    void limit_shrinksWhenLatencyRisesBeyondTolerance() {
+        AdaptiveConcurrencyLimit limit = newLimit(40);
+        runWindows(limit, 5, FAST);
+        int before = limit.limit();
+
+        runWindows(limit, 20, FAST * 10);
+
+        assertThat(limit.limit()).isLessThan(before / 2);
+        assertThat(limit.limit()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void limit_doesNotGrowWhenDemandIsWellBelowIt() {
+        AdaptiveConcurrencyLimit limit = newLimit(40);
+
+        for (int i = 0; i < 200; i++) {
+            limit.tryAcquire();
+            limit.release(FAST, false);
+        }
+
+        assertThat(limit.limit()).isEqualTo(40);
+    }
+
+    @Test
+    void limit_backsOffWhenRequestsAreDropped() {
+        AdaptiveConcurrencyLimit limit = newLimit(40);
+
+        for (int window = 0; window < 10; window++) {
+            fill(limit);
+            drain(limit, FAST, true);
+        }
+
+        assertThat(limit.limit()).isLessThan(40);
+    }
+
+    private static AdaptiveConcurrencyLimit newLimit(int initial) {
+        return new AdaptiveConcurrencyLimit(initial, 2, 100, 2.0, 0.2, 10, 600);
+    }
+
+    // Each window saturates the limit, then completes every request with the given latency
+    private static void runWindows(AdaptiveConcurrencyLimit limit, int windows, long latencyNanos) {
+        for (int window = 0; window < windows; window++) {
+            fill(limit);
+            drain(limit, latencyNanos, false);
+        }
+    }
+
+    private static void fill(AdaptiveConcurrencyLimit limit) {
+        while (limit.tryAcquire()) {
+            // keep acquiring until the limit is reached
+        }
+    }
+
+    private static void drain(AdaptiveConcurrencyLimit limit, long latencyNanos, boolean dropped) {
+        while (limit.inFlight() > 0) {
+            limit.release(latencyNanos, dropped);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.cobalt.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cobalt.common.config.PasswordHashingProperties;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class BCryptCostCalibratorTest {
+
+    @Test
+    void resolveCost_whenDisabled_returnsMinimumCost() {
+        var calibration = new PasswordHashingProperties.Calibration(
+            false, Duration.ofMillis(150), 11, 14, 3
+        );
+
+        assertThat(BCryptCostCalibrator.resolveCost(calibration)).isEqualTo(11);
+    }
+
+    @Test
+    void resolveCost_withGenerousTarget_climbsToMaximumCost() {
+        var calibration = new PasswordHashingProperties.Calibration(
+            true, Duration.ofSeconds(30), 4, 6, 1
+        );
+
+        assertThat(BCryptCostCalibrator.resolveCost(calibration)).isEqualTo(6);
+    }
+
+    @Test
+    void resolveCost_withUnreachableTarget_neverGoesBelowMinimumCost() {
+        var calibration = new PasswordHashingProperties.Calibration(
+            true, Duration.ofNanos(1), 5, 8, 1
+        );
+
+        assertThat(BCryptCostCalibrator.resolveCost(calibration)).isEqualTo(5);
+    }
+}
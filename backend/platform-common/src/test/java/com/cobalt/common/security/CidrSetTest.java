@@ -0,0 +1,70 @@
+package com.cobalt.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.InetAddress;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CidrSetTest {
+
+    @Test
+    void contains_matchesAddressesInsideIpv4Prefixes() {
+        CidrSet set = CidrSet.of(List.of("10.0.0.0/8", "192.168.1.0/24", "203.0.113.7"));
+
+        assertThat(set.contains(address("10.255.1.2"))).isTrue();
+        assertThat(set.contains(address("192.168.1.200"))).isTrue();
+        assertThat(set.contains(address("192.168.2.1"))).isFalse();
+        assertThat(set.contains(address("203.0.113.7"))).isTrue();
+        assertThat(set.contains(address("203.0.113.8"))).isFalse();
+        assertThat(set.contains(address("11.0.0.1"))).isFalse();
+    }
+
+    @Test
+    void contains_matchesIpv6PrefixesSeparatelyFromIpv4() {
+        CidrSet set = CidrSet.of(List.of("2001:db8::/32", "0.0.0.0/1"));
+
+        assertThat(set.contains(address("2001:db8:1::5"))).isTrue();
+        assertThat(set.contains(address("2001:db9::1"))).isFalse();
+        assertThat(set.contains(address("::1"))).isFalse();
+        assertThat(set.contains(address("127.0.0.1"))).isTrue();
+    }
+
+    @Test
+    void zeroLengthPrefix_coversTheWholeFamily() {
+        CidrSet set = CidrSet.of(List.of("::/0"));
+
+        assertThat(set.contains(address("fe80::1"))).isTrue();
+        assertThat(set.contains(address("8.8.8.8"))).isFalse();
+    }
+
+    @Test
+    void add_ignoresPrefixesInsideAShorterOne() {
+        CidrSet set = CidrSet.of(List.of("10.0.0.0/8", "10.1.0.0/16", "10.0.0.0/8"));
+
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    void add_rejectsInvalidCidrs() {
+        CidrSet set = new CidrSet();
+
+        assertThatThrownBy(() -> set.add("10.0.0.0/33")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> set.add("example.com/24")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> set.add("10.0.0.0/x")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void parseAddress_acceptsOnlyLiterals() {
+        assertThat(CidrSet.parseAddress(" 203.0.113.7 ")).isEqualTo(address("203.0.113.7"));
+        assertThat(CidrSet.parseAddress("[2001:db8::1]")).isEqualTo(address("2001:db8::1"));
+        assertThat(CidrSet.parseAddress("localhost")).isNull();
+        assertThat(CidrSet.parseAddress("unknown")).isNull();
+        assertThat(CidrSet.parseAddress("1.2.3")).isNull();
+    }
+
+    private static InetAddress address(String literal) {
+        return CidrSet.parseAddress(literal);
+    }
+}
@@ -0,0 +1,101 @@
+package com.cobalt.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cobalt.common.config.ClientIpProperties;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class ClientIpResolverTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ClientIpResolver resolver = new ClientIpResolver(
+        new ClientIpProperties(List.of("10.0.0.0/8"), null, null)
+    );
+
+    @Test
+    void resolve_usesTheRemoteAddressOfAnUntrustedPeer() {
+        MockHttpServletRequest request = request("198.51.100.9", "203.0.113.50");
+
+        assertThat(resolver.resolve(request)).isEqualTo("198.51.100.9");
+    }
+
+    @Test
+    void resolve_walksTrustedProxiesFromTheRight() {
+        // The client prepended a spoofed entry; the first untrusted hop from the right wins
+        MockHttpServletRequest request = request("10.0.0.2", "1.1.1.1, 203.0.113.50, 10.0.0.1");
+
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.50");
+    }
+
+    @Test
+    void resolve_readsEveryForwardedForHeaderInOrder() {
+        MockHttpServletRequest request = request("10.0.0.2", "1.1.1.1");
+        request.addHeader("X-Forwarded-For", "203.0.113.50");
+
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.50");
+    }
+
+    @Test
+    void resolve_stopsAtAnEntryThatIsNotAnAddress() {
+        MockHttpServletRequest request = request("10.0.0.2", "203.0.113.50, garbage, 10.0.0.1");
+
+        assertThat(resolver.resolve(request)).isEqualTo("10.0.0.1");
+    }
+
+    // Each of these would reach a DNS lookup if handed to InetAddress.getByName
+    @ParameterizedTest
+    @ValueSource(strings = {"999.1.1.1", "1..2.3", "x:evil.example", "abc:evil.example"})
+    void resolve_stopsAtAnEntryThatOnlyLooksLikeAnAddress(String hop) {
+        MockHttpServletRequest request = request("10.0.0.2", "203.0.113.50, " + hop);
+
+        assertThat(resolver.resolve(request)).isEqualTo("10.0.0.2");
+        assertThat(CidrSet.parseAddress(hop)).isNull();
+    }
+
+    @Test
+    void parseAddress_acceptsIpv4AndIpv6LiteralsOnly() {
+        assertThat(CidrSet.parseAddress("203.0.113.50").getHostAddress()).isEqualTo("203.0.113.50");
+        assertThat(CidrSet.parseAddress("[2001:db8::1]").getHostAddress())
+            .isEqualTo("2001:db8:0:0:0:0:0:1");
+        assertThat(CidrSet.parseAddress("::ffff:192.0.2.1").getHostAddress())
+            .isEqualTo("192.0.2.1");
+        assertThat(CidrSet.parseAddress("")).isNull();
+    }
+
+    @Test
+    void isBlocked_checksTheResolvedAddressAgainstTheBlocklistFile() throws IOException {
+        Path blocklist = tempDir.resolve("blocklist.txt");
+        Files.writeString(blocklist, """
+            # known bad networks
+            203.0.113.0/24
+            2001:db8::/32   # documentation range
+            not-a-cidr
+            """);
+        ClientIpResolver blocking = new ClientIpResolver(
+            new ClientIpProperties(List.of("10.0.0.0/8"), blocklist, null)
+        );
+
+        assertThat(blocking.isBlocked(request("10.0.0.2", "203.0.113.50"))).isTrue();
+        assertThat(blocking.isBlocked(request("2001:db8::7", null))).isTrue();
+        assertThat(blocking.isBlocked(request("198.51.100.9", "203.0.113.50"))).isFalse();
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,198 @@
+package com.cobalt.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cobalt.common.config.TokenVerificationProperties;
+import com.cobalt.common.test.TestFixtures;
+import io.jsonwebtoken.Jwts;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CompactJwtVerifierTest {
+
+    private JwtTokenProvider tokenProvider;
+    private CompactJwtVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider(
+            TestFixtures.JWT_SECRET, 3600000L, 86400000L
+        );
+        verifier = newVerifier(tokenProvider, true);
+    }
+
+    @Test
+    void verify_withAccessToken_extractsClaims() {
+        UUID userId = TestFixtures.randomUserId();
+        UUID tenantId = TestFixtures.randomTenantId();
+        String token = tokenProvider.generateAccessToken(
+            userId, "tech@test.com", "TECHNICIAN", tenantId
+        );
+
+        VerifiedClaims claims = verifier.verify(token);
+
+        assertThat(claims).isNotNull();
+        assertThat(claims.subject()).isEqualTo(userId.toString());
+        assertThat(claims.tenantId()).isEqualTo(tenantId.toString());
+        assertThat(claims.email()).isEqualTo("tech@test.com");
+        assertThat(claims.role()).isEqualTo("TECHNICIAN");
+        assertThat(claims.isAccessToken()).isTrue();
+        assertThat(claims.expiresAtMillis())
+            .isEqualTo(tokenProvider.parseToken(token).getExpiration().getTime());
+    }
+
+    @Test
+    void verify_withRefreshToken_extractsClaims() {
+        UUID userId = TestFixtures.randomUserId();
+        UUID tenantId = TestFixtures.randomTenantId();
+        String token = tokenProvider.generateRefreshToken(userId, tenantId);
+
+        VerifiedClaims claims = verifier.verify(token);
+
+        assertThat(claims).isNotNull();
+        assertThat(claims.isRefreshToken()).isTrue();
+        assertThat(claims.subject()).isEqualTo(userId.toString());
+        assertThat(claims.email()).isNull();
+        assertThat(claims.tokenId())
+            .isNotNull()
+            .isEqualTo(tokenProvider.parseToken(token).getId());
+    }
+
+    @Test
+    void verify_matchesJjwtWhenFastPathDisabled() {
+        String token = tokenProvider.generateAccessToken(
+            TestFixtures.randomUserId(), "user@test.com", "ADMIN",
+            TestFixtures.randomTenantId()
+        );
+
+        VerifiedClaims fast = verifier.verify(token);
+        VerifiedClaims slow = newVerifier(tokenProvider, false).verify(token);
+
+        assertThat(fast).isEqualTo(slow);
+    }
+
+    @Test
+    void verify_withTamperedSignature_returnsNull() {
+        String token = tokenProvider.generateAccessToken(
+            TestFixtures.randomUserId(), "user@test.com", "ADMIN",
+            TestFixtures.randomTenantId()
+        );
+        String tampered = token.substring(0, token.length() - 5) + "XXXXX";
+
+        assertThat(verifier.verify(tampered)).isNull();
+    }
+
+    @Test
+    void verify_withTamperedPayload_returnsNull() {
+        String token = tokenProvider.generateAccessToken(
+            TestFixtures.randomUserId(), "user@test.com", "TECHNICIAN",
+            TestFixtures.randomTenantId()
+        );
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + parts[1].substring(1) + "A." + parts[2];
+
+        assertThat(verifier.verify(forged)).isNull();
+    }
+
+    @Test
+    void verify_withExpiredToken_returnsNull() {
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(
+            TestFixtures.JWT_SECRET, 0L, 0L
+        );
+        String token = expiredProvider.generateAccessToken(
+            TestFixtures.randomUserId(), "user@test.com", "ADMIN",
+            TestFixtures.randomTenantId()
+        );
+
+        assertThat(verifier.verify(token)).isNull();
+    }
+
+    @Test
+    void verify_withDifferentSecret_returnsNull() {
+        JwtTokenProvider otherProvider = new JwtTokenProvider(
+            "YW5vdGhlci1zZWNyZXQta2V5LWZvci10ZXN0aW5nLW11c3QtYmUtYXQtbGVhc3QtMjU2LWJpdHMtbG9uZw==",
+            3600000L, 86400000L
+        );
+        String token = otherProvider.generateAccessToken(
+            TestFixtures.randomUserId(), "user@test.com", "ADMIN",
+            TestFixtures.randomTenantId()
+        );
+
+        assertThat(verifier.verify(token)).isNull();
+    }
+
+    @Test
+    void verify_withUnexpectedClaims_fallsBackToJjwt() {
+        UUID userId = TestFixtures.randomUserId();
+        String token = Jwts.builder()
+            .subject(userId.toString())
+            .claim("tenantId", TestFixtures.randomTenantId().toString())
+            .claim("type", "access")
+            .claim("permissions", new String[] {"jobs:read"})
+            .notBefore(new Date(System.currentTimeMillis() - 1000))
+            .expiration(new Date(System.currentTimeMillis() + 60000))
+            .signWith(tokenProvider.getSigningKey())
+            .compact();
+
+        VerifiedClaims claims = verifier.verify(token);
+
+        assertThat(claims).isNotNull();
+        assertThat(claims.subject()).isEqualTo(userId.toString());
+    }
+
+    @Test
+    void verify_withMalformedInput_returnsNull() {
+        assertThat(verifier.verify(null)).isNull();
+        assertThat(verifier.verify("")).isNull();
+        assertThat(verifier.verify("invalid.token.here")).isNull();
+        assertThat(verifier.verify("a.b.c.d")).isNull();
+    }
+
+    @Test
+    void verify_onManyVirtualThreads_keepsEachCallsClaimsApart() throws Exception {
+        int tokens = 2000;
+        List<UUID> userIds = new ArrayList<>();
+        List<String> issued = new ArrayList<>();
+        UUID tenantId = TestFixtures.randomTenantId();
+        for (int i = 0; i < tokens; i++) {
+            UUID userId = TestFixtures.randomUserId();
+            userIds.add(userId);
+            issued.add(tokenProvider.generateAccessToken(
+                userId, "user" + i + "@test.com", "TECHNICIAN", tenantId
+            ));
+        }
+
+        List<Future<VerifiedClaims>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String token : issued) {
+                results.add(executor.submit(() -> verifier.verify(token)));
+            }
+        }
+
+        for (int i = 0; i < tokens; i++) {
+            VerifiedClaims claims = results.get(i).get();
+            assertThat(claims).isNotNull();
+            assertThat(claims.subject()).isEqualTo(userIds.get(i).toString());
+            assertThat(claims.email()).isEqualTo("user" + i + "@test.com");
+        }
+    }
+
+    private static CompactJwtVerifier newVerifier(
+        JwtTokenProvider provider,
+        boolean compactEnabled
+    ) {
+        return new CompactJwtVerifier(
+            provider,
+            new TokenVerificationProperties(
+                null, new TokenVerificationProperties.Compact(compactEnabled)
+            )
+        );
+    }
+}
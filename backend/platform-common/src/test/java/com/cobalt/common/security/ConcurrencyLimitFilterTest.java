@@ -0,0 +1,108 @@
+package com.cobalt.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cobalt.common.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+        new ConcurrencyLimitProperties(
+            true, 0, 0, 0, 0,
+            new ConcurrencyLimitProperties.Group(null, 5, 5, 5),
+            Map.of("auth", new ConcurrencyLimitProperties.Group(
+                List.of("/api/v1/auth/**"), 1, 1, 1
+            ))
+        ),
+        meterRegistry
+    );
+
+    @Test
+    void requestBeyondTheGroupLimit_isRejectedWith503() throws Exception {
+        AtomicReference<MockHttpServletResponse> nested = new AtomicReference<>();
+
+        // The outer request holds the auth group's only slot while the nested one arrives
+        MockHttpServletResponse outer = execute("/api/v1/auth/login", (request, response) ->
+            nested.set(execute("/api/v1/auth/register", (r, s) -> { }))
+        );
+
+        assertThat(outer.getStatus()).isEqualTo(200);
+        assertThat(nested.get().getStatus()).isEqualTo(503);
+        assertThat(nested.get().getHeader("Retry-After")).isEqualTo("1");
+        assertThat(meterRegistry.get("cobalt.concurrency.rejected").tag("group", "auth")
+            .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void groups_haveIndependentLimits() throws Exception {
+        AtomicReference<MockHttpServletResponse> nested = new AtomicReference<>();
+
+        execute("/api/v1/auth/login", (request, response) ->
+            nested.set(execute("/api/v1/jobs", (r, s) -> { }))
+        );
+
+        assertThat(nested.get().getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void slotIsReleasedWhenTheRequestCompletes() throws Exception {
+        execute("/api/v1/auth/login", (request, response) -> { });
+
+        assertThat(execute("/api/v1/auth/login", (request, response) -> { }).getStatus())
+            .isEqualTo(200);
+        assertThat(meterRegistry.get("cobalt.concurrency.inflight").tag("group", "auth")
+            .gauge().value()).isZero();
+    }
+
+    @Test
+    void actuatorEndpoints_areNeverLimited() throws Exception {
+        AtomicReference<MockHttpServletResponse> nested = new AtomicReference<>();
+
+        execute("/api/v1/auth/login", (request, response) ->
+            nested.set(execute("/actuator/health", (r, s) -> { }))
+        );
+
+        assertThat(nested.get().getStatus()).isEqualTo(200);
+    }
+
+    private MockHttpServletResponse execute(String path, Handler handler) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain(
+                new HttpServlet() {
+                    @Override
+                    protected void service(
+                        HttpServletRequest req,
+                        HttpServletResponse res
+                    ) {
+                        handler.handle(req, res);
+                    }
+                }
+            ));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return response;
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        void handle(
+            HttpServletRequest request,
+            HttpServletResponse response
+        );
+    }
+}
@@ -0,0 +1,164 @@
+package com.cobalt.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class CountMinSketchRateLimiterTest {
+
+    // Aligned to a window start so fractions of the minute are easy to read
+    private final AtomicLong clock = new AtomicLong(60_000L * 1_000);
+
+    @Test
+    void acquire_limitsEachKeyWithinAWindow() {
+        CountMinSketchRateLimiter<String> limiter = newLimiter(5, 4_096);
+
+        assertThat(admitted(limiter, "10.0.0.1", 10)).isEqualTo(5);
+        assertThat(admitted(limiter, "10.0.0.2", 10)).isEqualTo(5);
+    }
+
+    @Test
+    void acquire_blendsThePreviousWindowInsteadOfResetting() {
+        CountMinSketchRateLimiter<String> limiter = newLimiter(10, 4_096);
+        clock.addAndGet(59_000);
+        admitted(limiter, "10.0.0.1", 10);
+
+        // A quarter into the next window the previous one still weighs 7.5 requests
+        clock.addAndGet(16_000);
+
+        assertThat(admitted(limiter, "10.0.0.1", 10)).isEqualTo(3);
+    }
+
+    @Test
+    void acquire_returnsWhenTheSlidingEstimateDropsBelowTheLimit() {
+        CountMinSketchRateLimiter<String> limiter = newLimiter(10, 4_096);
+        admitted(limiter, "10.0.0.1", 10);
+
+        long retryAfter = limiter.acquire("10.0.0.1");
+
+        // Ten requests in this window: wait for the next, then until 10 * (1 - f) < 10
+        assertThat(retryAfter).isEqualTo(60_000);
+        clock.addAndGet(retryAfter + 6_000);
+        assertThat(limiter.acquire("10.0.0.1")).isZero();
+    }
+
+    @Test
+    void acquire_withFarMoreKeysThanCounters_stillAdmitsQuietKeys() {
+        CountMinSketchRateLimiter<String> limiter = newLimiter(10, 16_384);
+        for (int i = 0; i < 200_000; i++) {
+            limiter.acquire("198.51." + (i >> 8) + "." + (i & 0xff));
+        }
+
+        int quietAdmitted = 0;
+        for (int i = 0; i < 1_000; i++) {
+            if (limiter.acquire("203.0." + (i >> 8) + "." + (i & 0xff)) == 0) {
+                quietAdmitted++;
+            }
+        }
+
+        assertThat(quietAdmitted).isGreaterThan(990);
+    }
+
+    @Test
+    void acquire_withKeysSharingAHashCode_countsThemApart() {
+        CountMinSketchRateLimiter<String> limiter = newLimiter(5, 4_096);
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+
+        admitted(limiter, "Aa", 10);
+
+        assertThat(admitted(limiter, "BB", 10)).isEqualTo(5);
+    }
+
+    @Test
+    void siphash_matchesTheReferenceVectors() {
+        long k0 = 0x0706050403020100L;
+        long k1 = 0x0f0e0d0c0b0a0908L;
+
+        assertThat(CountMinSketchRateLimiter.SipHash.hash(k0, k1, ""))
+            .isEqualTo(0x726fdb47dd0e0e31L);
+        // Bytes 00..07 as UTF-16LE
+        assertThat(CountMinSketchRateLimiter.SipHash.hash(k0, k1, "\u0100\u0302\u0504\u0706"))
+            .isEqualTo(0x93f5f5799a932462L);
+    }
+
+    @Test
+    void acquire_admitsExactlyTheLimitUnderContention() throws Exception {
+        CountMinSketchRateLimiter<String> limiter = newLimiter(1_000, 4_096);
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int granted = 0;
+                    for (int i = 0; i < 500; i++) {
+                        if (limiter.acquire("10.0.0.1") == 0) {
+                            granted++;
+                        }
+                    }
+                    return granted;
+                }));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get();
+            }
+            assertThat(total).isEqualTo(1_000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void topOffenders_ranksTheHeaviestKeysWithinCapacity() {
+        CountMinSketchRateLimiter<String> limiter = newLimiter(5, 4_096);
+        for (int i = 0; i < 50; i++) {
+            admitted(limiter, "192.0.2." + i, 3);
+        }
+        admitted(limiter, "198.51.100.7", 40);
+
+        List<TopOffenders.Offender> offenders = limiter.topOffenders();
+
+        assertThat(offenders).hasSizeLessThanOrEqualTo(10);
+        assertThat(offenders.getFirst().key()).isEqualTo("198.51.100.7");
+        assertThat(offenders.getFirst().deniedRequests()).isEqualTo(35);
+    }
+
+    @Test
+    void rotation_dropsOffendersFromFinishedWindows() {
+        CountMinSketchRateLimiter<String> limiter = newLimiter(5, 4_096);
+        admitted(limiter, "198.51.100.7", 10);
+        clock.addAndGet(120_000);
+        limiter.acquire("192.0.2.1");
+
+        assertThat(limiter.topOffenders()).isEmpty();
+    }
+
+    private CountMinSketchRateLimiter<String> newLimiter(int perMinute, int width) {
+        return new CountMinSketchRateLimiter<>(
+            perMinute, Duration.ofMinutes(1), width, 4, 10, clock::get
+        );
+    }
+
+    private static int admitted(CountMinSketchRateLimiter<String> limiter, String key, int attempts) {
+        int admitted = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (limiter.acquire(key) == 0) {
+                admitted++;
+            }
+        }
+        return admitted;
+    }
+}
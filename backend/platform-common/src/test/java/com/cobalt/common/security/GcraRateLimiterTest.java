@@ -0,0 +1,83 @@
+package com.cobalt.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class GcraRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+
+    @Test
+    void acquire_admitsBurstThenPacesAtTheEmissionInterval() {
+        GcraRateLimiter<String> limiter = newLimiter(60, 3);
+
+        assertThat(admitted(limiter, "client")).isEqualTo(3);
+
+        clock.addAndGet(999);
+        assertThat(limiter.acquire("client")).isEqualTo(1);
+        clock.addAndGet(1);
+        assertThat(limiter.acquire("client")).isZero();
+        assertThat(limiter.acquire("client")).isPositive();
+    }
+
+    @Test
+    void acquire_cannotDoubleTheLimitAcrossAMinuteBoundary() {
+        GcraRateLimiter<String> limiter = newLimiter(10, 10);
+
+        // Ten at the end of one minute and ten more just after it is what a fixed window allows
+        clock.addAndGet(59_000);
+        assertThat(admitted(limiter, "client")).isEqualTo(10);
+        clock.addAndGet(2_000);
+
+        assertThat(admitted(limiter, "client")).isZero();
+    }
+
+    @Test
+    void acquire_retryAfterMatchesTheTheoreticalArrivalTime() {
+        GcraRateLimiter<String> limiter = newLimiter(5, 5);
+        admitted(limiter, "client");
+
+        long retryAfter = limiter.acquire("client");
+        clock.addAndGet(retryAfter - 1);
+        assertThat(limiter.acquire("client")).isPositive();
+        clock.addAndGet(1);
+        assertThat(limiter.acquire("client")).isZero();
+        assertThat(retryAfter).isEqualTo(12_000);
+    }
+
+    @Test
+    void acquire_keepsKeysIndependent() {
+        GcraRateLimiter<String> limiter = newLimiter(60, 1);
+
+        assertThat(limiter.acquire("a")).isZero();
+        assertThat(limiter.acquire("a")).isPositive();
+        assertThat(limiter.acquire("b")).isZero();
+    }
+
+    @Test
+    void arrivals_expireOnceIdleLongEnoughForTheBurstToRecover() {
+        GcraRateLimiter<String> limiter = newLimiter(60, 5);
+        limiter.acquire("idle");
+        clock.addAndGet(3_000);
+        admitted(limiter, "busy");
+        // 1s emission and 4s tolerance: keys untouched for 5s are back at their full burst
+        clock.addAndGet(2_000);
+
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    private GcraRateLimiter<String> newLimiter(int perMinute, int burst) {
+        return new GcraRateLimiter<>(perMinute, Duration.ofMinutes(1), burst, clock::get);
+    }
+
+    private static int admitted(GcraRateLimiter<String> limiter, String key) {
+        int admitted = 0;
+        while (limiter.acquire(key) == 0) {
+            admitted++;
+        }
+        return admitted;
+    }
+}
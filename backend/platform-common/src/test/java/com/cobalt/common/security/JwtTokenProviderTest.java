@@ -273,4 +273,52 @@ class JwtTokenProviderTest {
 
         assertThat(token1).isNotEqualTo(token2);
     }
+
+    @Test
+    void generateAccessToken_isByteIdenticalToJjwtOutput() {
+        UUID userId = TestFixtures.randomUserId();
+        UUID tenantId = TestFixtures.randomTenantId();
+        long now = System.currentTimeMillis();
+
+        String templated = tokenProvider.generateAccessToken(
+            userId, "user@test.com", "TECHNICIAN", tenantId, now
+        );
+        String jjwt = tokenProvider.buildAccessToken(
+            userId, "user@test.com", "TECHNICIAN", tenantId, now
+        );
+
+        assertThat(templated).isEqualTo(jjwt);
+    }
+
+    @Test
+    void generateRefreshToken_isByteIdenticalToJjwtOutput() {
+        UUID userId = TestFixtures.randomUserId();
+        UUID tenantId = TestFixtures.randomTenantId();
+        long now = System.currentTimeMillis();
+
+        UUID tokenId = UUID.randomUUID();
+
+        String templated = tokenProvider.generateRefreshToken(
+            userId, tenantId, tokenId, now
+        );
+        String jjwt = tokenProvider.buildRefreshToken(
+            userId, tenantId, tokenId, now
+        );
+
+        assertThat(templated).isEqualTo(jjwt);
+    }
+
+    @Test
+    void generateAccessToken_withCharactersNeedingEscape_fallsBackToJjwt() {
+        UUID userId = TestFixtures.randomUserId();
+        UUID tenantId = TestFixtures.randomTenantId();
+        String email = "\"quoted\"@test.com";
+
+        String token = tokenProvider.generateAccessToken(
+            userId, email, "ADMIN", tenantId
+        );
+
+        Claims claims = tokenProvider.parseToken(token);
+        assertThat(claims.get("email", String.class)).isEqualTo(email);
+    }
 }
@@ -0,0 +1,168 @@
+package com.cobalt.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class LeasedRateLimiterTest {
+
+    private static final TokenLeaseStore.Limit LIMIT =
+        new TokenLeaseStore.Limit(60, Duration.ofMinutes(1), 40);
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final Queue<Runnable> refills = new ArrayDeque<>();
+    private final InMemoryLeaseStore store = new InMemoryLeaseStore();
+
+    @Test
+    void acquire_neverCallsTheStoreOnTheRequestThread() {
+        LeasedRateLimiter<String> limiter = newLimiter(new GcraRateLimiter<>(
+            60, Duration.ofMinutes(1), 40, clock::get
+        ));
+
+        assertThat(limiter.acquire("tenant")).isZero();
+
+        assertThat(store.calls.get()).isZero();
+        assertThat(refills).hasSize(1);
+    }
+
+    @Test
+    void acquire_spendsTheLeaseAndPrefetchesAtHalf() {
+        LeasedRateLimiter<String> limiter = newLimiter(denyAll());
+        limiter.acquire("tenant");
+        runRefills();
+
+        // Lease size is capped at a quarter of the capacity: 10 tokens
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.acquire("tenant")).isZero();
+        }
+        assertThat(refills).hasSize(1);
+        runRefills();
+        for (int i = 0; i < 15; i++) {
+            assertThat(limiter.acquire("tenant")).isZero();
+        }
+        assertThat(store.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void acquire_whenTheLeaseRunsDryDuringARefill_borrowsUpToOneLease() {
+        LeasedRateLimiter<String> limiter = newLimiter(denyAll());
+        limiter.acquire("tenant");
+        runRefills();
+
+        // 10 leased tokens, then 10 more borrowed while the prefetch is still in flight
+        for (int i = 0; i < 20; i++) {
+            assertThat(limiter.acquire("tenant")).isZero();
+        }
+        assertThat(refills).hasSize(1);
+        assertThat(limiter.acquire("tenant")).isEqualTo(60_000);
+
+        // The refill repays the debt instead of adding spendable tokens
+        runRefills();
+        assertThat(store.calls.get()).isEqualTo(2);
+        assertThat(store.remaining.get("tenant:tenant")).isEqualTo(20);
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.acquire("tenant")).isZero();
+        }
+        assertThat(limiter.acquire("tenant")).isEqualTo(60_000);
+    }
+
+    @Test
+    void acquire_whenTheSharedBucketIsEmpty_returnsTheStoreRetryAfter() {
+        LeasedRateLimiter<String> limiter = newLimiter(denyAll());
+        store.remaining.put("tenant:tenant", 0);
+        limiter.acquire("tenant");
+        runRefills();
+
+        assertThat(limiter.acquire("tenant")).isEqualTo(1_000);
+        clock.addAndGet(400);
+        assertThat(limiter.acquire("tenant")).isEqualTo(600);
+        assertThat(refills).isEmpty();
+    }
+
+    @Test
+    void acquire_whenTheStoreFails_usesPerReplicaLimitsAndBacksOff() {
+        LeasedRateLimiter<String> limiter = newLimiter(new GcraRateLimiter<>(
+            60, Duration.ofMinutes(1), 2, clock::get
+        ));
+        store.failing = true;
+        limiter.acquire("tenant");
+        runRefills();
+
+        assertThat(limiter.acquire("tenant")).isZero();
+        assertThat(limiter.acquire("tenant")).isPositive();
+        assertThat(refills).isEmpty();
+
+        clock.addAndGet(5_000);
+        store.failing = false;
+        limiter.acquire("tenant");
+        runRefills();
+        assertThat(limiter.acquire("tenant")).isZero();
+        assertThat(store.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void acquire_afterTheLeaseLapses_doesNotSpendStaleTokens() {
+        LeasedRateLimiter<String> limiter = newLimiter(denyAll());
+        limiter.acquire("tenant");
+        runRefills();
+
+        clock.addAndGet(2_000);
+
+        assertThat(limiter.acquire("tenant")).isPositive();
+        assertThat(refills).hasSize(1);
+    }
+
+    @Test
+    void leases_expireOnceIdleForTheLeaseTtl() {
+        LeasedRateLimiter<String> limiter = newLimiter(denyAll());
+        limiter.acquire("tenant");
+        runRefills();
+        clock.addAndGet(2_000);
+
+        assertThat(limiter.size()).isZero();
+    }
+
+    private LeasedRateLimiter<String> newLimiter(RateLimiter<String> fallback) {
+        return new LeasedRateLimiter<>(
+            "tenant", store, LIMIT, fallback, 20,
+            Duration.ofSeconds(2), Duration.ofSeconds(5), refills::add, clock::get
+        );
+    }
+
+    private RateLimiter<String> denyAll() {
+        return key -> 60_000;
+    }
+
+    private void runRefills() {
+        Runnable refill;
+        while ((refill = refills.poll()) != null) {
+            refill.run();
+        }
+    }
+
+    private static final class InMemoryLeaseStore implements TokenLeaseStore {
+
+        private final Map<String, Integer> remaining = new HashMap<>();
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile boolean failing;
+
+        @Override
+        public Lease lease(String key, int requested, Limit limit) {
+            calls.incrementAndGet();
+            if (failing) {
+                throw new IllegalStateException("store down");
+            }
+            int available = remaining.getOrDefault(key, limit.capacity());
+            int granted = Math.min(requested, available);
+            remaining.put(key, available - granted);
+            return new Lease(granted, granted == 0 ? 1_000 : 0);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.cobalt.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.cobalt.common.config.PasswordHashingProperties;
+import com.cobalt.common.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class PasswordHashingExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newFixedThreadPool(4);
+    private PasswordHashingExecutor hasher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        if (hasher != null) {
+            hasher.shutdown();
+        }
+    }
+
+    @Test
+    void encodeAndMatches_delegateToEncoder() {
+        hasher = new PasswordHashingExecutor(
+            new ReversingEncoder(null), properties(2, 4, Duration.ofSeconds(5)), meterRegistry
+        );
+
+        String encoded = hasher.encode("secret");
+
+        assertThat(encoded).isEqualTo("terces");
+        assertThat(hasher.matches("secret", encoded)).isTrue();
+        assertThat(hasher.matches("other", encoded)).isFalse();
+        assertThat(meterRegistry.get("cobalt.password.hash.duration")
+            .tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cobalt.password.hash.duration")
+            .tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void encode_whenQueueIsFull_failsFastWithRetryAfter() throws Exception {
+        hasher = new PasswordHashingExecutor(
+            new ReversingEncoder(release), properties(1, 1, Duration.ofSeconds(30)), meterRegistry
+        );
+
+        callers.submit(() -> hasher.encode("running"));
+        waitUntil(() -> meterRegistry.get("cobalt.password.hash.active").gauge().value() == 1);
+        callers.submit(() -> hasher.encode("queued"));
+        waitUntil(() -> hasher.queueDepth() == 1);
+
+        assertThatThrownBy(() -> hasher.encode("rejected"))
+            .isInstanceOf(ServiceUnavailableException.class)
+            .satisfies(ex -> assertThat(
+                ((ServiceUnavailableException) ex).getRetryAfterSeconds()
+            ).isEqualTo(3));
+        assertThat(meterRegistry.get("cobalt.password.hash.rejected").counter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("cobalt.password.hash.queue.depth").gauge().value())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void encode_whenWorkerDoesNotFinishInTime_failsWithServiceUnavailable() {
+        hasher = new PasswordHashingExecutor(
+            new ReversingEncoder(release), properties(1, 1, Duration.ofMillis(50)), meterRegistry
+        );
+
+        assertThatThrownBy(() -> hasher.encode("slow"))
+            .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    private static PasswordHashingProperties properties(
+        int threads,
+        int queueCapacity,
+        Duration timeout
+    ) {
+        return new PasswordHashingProperties(threads, queueCapacity, timeout, 3, null);
+    }
+
+    private static void waitUntil(Condition condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.met() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.met()).isTrue();
+    }
+
+    private interface Condition {
+        boolean met();
+    }
+
+    private static final class ReversingEncoder implements PasswordEncoder {
+
+        private final CountDownLatch gate;
+
+        ReversingEncoder(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new StringBuilder(rawPassword).reverse().toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
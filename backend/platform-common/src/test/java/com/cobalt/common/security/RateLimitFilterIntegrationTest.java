@@ -2,7 +2,9 @@ package com.cobalt.common.security;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.cobalt.common.config.ClientIpProperties;
 import com.cobalt.common.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +14,7 @@ import org.springframework.mock.web.MockHttpServletResponse;
 
 class RateLimitFilterIntegrationTest {
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
     private RateLimitFilter filter;
 
     @BeforeEach
@@ -20,7 +23,9 @@ class RateLimitFilterIntegrationTest {
             new RateLimitProperties.Auth(5, 3),
             new RateLimitProperties.Tenant(1000)
         );
-        filter = new RateLimitFilter(properties);
+        filter = new RateLimitFilter(
+            properties, meterRegistry, new ClientIpResolver(new ClientIpProperties(null, null, null))
+        );
     }
 
     @Test
@@ -36,7 +41,8 @@ class RateLimitFilterIntegrationTest {
         // 6th request should be rate limited
         MockHttpServletResponse response = executeLoginRequest(clientIp);
         assertThat(response.getStatus()).isEqualTo(429);
-        assertThat(response.getHeader("Retry-After")).isEqualTo("60");
+        // 5 per minute: the next slot opens 12 seconds after the burst
+        assertThat(response.getHeader("Retry-After")).isEqualTo("12");
         assertThat(response.getContentType()).contains("application/problem+json");
     }
 
@@ -53,7 +59,7 @@ class RateLimitFilterIntegrationTest {
         // 4th request should be rate limited
         MockHttpServletResponse response = executeRegisterRequest(clientIp);
         assertThat(response.getStatus()).isEqualTo(429);
-        assertThat(response.getHeader("Retry-After")).isEqualTo("60");
+        assertThat(response.getHeader("Retry-After")).isEqualTo("20");
     }
 
     @Test
@@ -89,6 +95,18 @@ class RateLimitFilterIntegrationTest {
         assertThat(response.getStatus()).isEqualTo(429);
     }
 
+    @Test
+    void spoofedXForwardedFor_fromUntrustedPeer_isIgnored() throws Exception {
+        for (int i = 0; i < 6; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+            request.setRemoteAddr("198.51.100.9");
+            request.addHeader("X-Forwarded-For", "203.0.113." + i);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            assertThat(response.getStatus()).isEqualTo(i < 5 ? 200 : 429);
+        }
+    }
+
     @Test
     void nonAuthEndpoints_shouldNotBeRateLimited() throws Exception {
         MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/jobs");
@@ -97,6 +115,19 @@ class RateLimitFilterIntegrationTest {
         assertThat(response.getStatus()).isEqualTo(200);
     }
 
+    @Test
+    void limiterState_isExposedAsCacheMetrics() throws Exception {
+        executeLoginRequest("192.168.1.102");
+        executeLoginRequest("192.168.1.103");
+
+        assertThat(meterRegistry.get("cache.size").tag("cache", "rate-limit.login")
+            .gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", "rate-limit.login")
+            .functionCounter().count()).isZero();
+        assertThat(meterRegistry.find("cache.size").tag("cache", "rate-limit.register")
+            .gauge()).isNotNull();
+    }
+
     private MockHttpServletResponse executeLoginRequest(String clientIp)
         throws IOException, jakarta.servlet.ServletException {
         MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
@@ -0,0 +1,88 @@
+package com.cobalt.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cobalt.common.config.RefreshTokenProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class RevokedTokenFilterTest {
+
+    @Test
+    void mightContain_neverMissesAnAddedId() {
+        RevokedTokenFilter filter = newFilter(10_000, 0.01);
+        List<UUID> revoked = randomIds(10_000);
+
+        revoked.forEach(filter::add);
+
+        assertThat(revoked).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void mightContain_keepsFalsePositivesNearConfiguredRate() {
+        RevokedTokenFilter filter = newFilter(10_000, 0.01);
+        randomIds(10_000).forEach(filter::add);
+
+        long falsePositives = randomIds(100_000).stream()
+            .filter(filter::mightContain)
+            .count();
+
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    void rebuild_dropsIdsNoLongerRevokedAndKeepsTheRest() {
+        RevokedTokenFilter filter = newFilter(1_000, 0.001);
+        UUID expired = UUID.randomUUID();
+        UUID active = UUID.randomUUID();
+        filter.add(expired);
+        filter.add(active);
+
+        filter.rebuild(() -> Stream.of(active));
+
+        assertThat(filter.mightContain(active)).isTrue();
+        assertThat(filter.mightContain(expired)).isFalse();
+    }
+
+    @Test
+    void add_duringRebuild_survivesTheSwap() {
+        RevokedTokenFilter filter = newFilter(1_000, 0.001);
+        UUID revokedMeanwhile = UUID.randomUUID();
+
+        filter.rebuild(() -> Stream.of(UUID.randomUUID())
+            .peek(id -> filter.add(revokedMeanwhile)));
+
+        assertThat(filter.mightContain(revokedMeanwhile)).isTrue();
+    }
+
+    @Test
+    void add_afterRebuildStartedButBeforeItsQuery_survivesTheSwap() {
+        RevokedTokenFilter filter = newFilter(1_000, 0.001);
+        UUID revokedMeanwhile = UUID.randomUUID();
+
+        // The id is stored after the rebuild began but is not in the rows it reads
+        filter.rebuild(() -> {
+            filter.add(revokedMeanwhile);
+            return Stream.of(UUID.randomUUID());
+        });
+
+        assertThat(filter.mightContain(revokedMeanwhile)).isTrue();
+    }
+
+    private static RevokedTokenFilter newFilter(long expected, double falsePositiveRate) {
+        return new RevokedTokenFilter(
+            new RefreshTokenProperties(expected, falsePositiveRate, null)
+        );
+    }
+
+    private static List<UUID> randomIds(int count) {
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,75 @@
+package com.cobalt.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class TenantBulkheadTest {
+
+    private final TenantBulkhead bulkhead = new TenantBulkhead(Duration.ofMinutes(10));
+    private final UUID tenant = UUID.randomUUID();
+
+    @Test
+    void tryAcquire_rejectsOnceTheCapIsInFlight() {
+        AtomicInteger first = bulkhead.tryAcquire(tenant, 2);
+        AtomicInteger second = bulkhead.tryAcquire(tenant, 2);
+
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(bulkhead.tryAcquire(tenant, 2)).isNull();
+        assertThat(bulkhead.inFlight(tenant)).isEqualTo(2);
+
+        first.decrementAndGet();
+        assertThat(bulkhead.tryAcquire(tenant, 2)).isNotNull();
+    }
+
+    @Test
+    void tenants_haveIndependentCaps() {
+        bulkhead.tryAcquire(tenant, 1);
+
+        assertThat(bulkhead.tryAcquire(tenant, 1)).isNull();
+        assertThat(bulkhead.tryAcquire(UUID.randomUUID(), 1)).isNotNull();
+    }
+
+    @Test
+    void concurrentCallers_neverExceedTheCap() throws Exception {
+        int cap = 5;
+        AtomicInteger peak = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 16; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 10_000; i++) {
+                        AtomicInteger inFlight = bulkhead.tryAcquire(tenant, cap);
+                        if (inFlight != null) {
+                            peak.accumulateAndGet(inFlight.get(), Math::max);
+                            inFlight.decrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(peak.get()).isLessThanOrEqualTo(cap);
+        assertThat(bulkhead.inFlight(tenant)).isZero();
+    }
+}
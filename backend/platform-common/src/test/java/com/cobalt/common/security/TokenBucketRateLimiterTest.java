@@ -0,0 +1,170 @@
+package com.cobalt.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+
+    @Test
+    void acquire_allowsBurstUpToCapacity() {
+        TokenBucketRateLimiter<String> limiter = newLimiter(5);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.acquire("client")).isZero();
+        }
+        assertThat(limiter.acquire("client")).isPositive();
+    }
+
+    @Test
+    void acquire_refillsEvenlyOverThePeriod() {
+        TokenBucketRateLimiter<String> limiter = newLimiter(6);
+        drain(limiter, "client");
+
+        clock.addAndGet(9_999);
+        assertThat(limiter.acquire("client")).isPositive();
+
+        clock.addAndGet(1);
+        assertThat(limiter.acquire("client")).isZero();
+        assertThat(limiter.acquire("client")).isPositive();
+    }
+
+    @Test
+    void acquire_carriesPartialRefillAcrossCalls() {
+        TokenBucketRateLimiter<String> limiter = newLimiter(6);
+        drain(limiter, "client");
+
+        // 15s is one and a half tokens; the leftover half must not be lost
+        clock.addAndGet(15_000);
+        assertThat(limiter.acquire("client")).isZero();
+        clock.addAndGet(5_000);
+        assertThat(limiter.acquire("client")).isZero();
+        assertThat(limiter.acquire("client")).isPositive();
+    }
+
+    @Test
+    void acquire_neverExceedsCapacityAfterLongIdle() {
+        TokenBucketRateLimiter<String> limiter = newLimiter(3);
+        drain(limiter, "client");
+
+        clock.addAndGet(Duration.ofHours(5).toMillis());
+
+        assertThat(drain(limiter, "client")).isEqualTo(3);
+    }
+
+    @Test
+    void acquire_afterIdleGapShorterThanFullRefill_allowsOnlyCapacity() {
+        TokenBucketRateLimiter<String> limiter = newLimiter(5);
+        assertThat(limiter.acquire("client")).isZero();
+
+        // 50s refills the one token used; the rest of the gap must not be banked
+        clock.addAndGet(50_000);
+        assertThat(drain(limiter, "client")).isEqualTo(5);
+
+        clock.addAndGet(50_000);
+        assertThat(drain(limiter, "client")).isEqualTo(4);
+    }
+
+    @Test
+    void acquire_keepsKeysIndependent() {
+        TokenBucketRateLimiter<String> limiter = newLimiter(2);
+        drain(limiter, "a");
+
+        assertThat(limiter.acquire("a")).isPositive();
+        assertThat(limiter.acquire("b")).isZero();
+    }
+
+    @Test
+    void acquire_grantsExactlyCapacityUnderContention() throws Exception {
+        TokenBucketRateLimiter<String> limiter = newLimiter(1_000);
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int granted = 0;
+                    for (int i = 0; i < 500; i++) {
+                        if (limiter.acquire("hot") == 0) {
+                            granted++;
+                        }
+                    }
+                    return granted;
+                }));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get();
+            }
+            assertThat(total).isEqualTo(1_000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void buckets_expireOnlyOnceIdleForAFullRefill() {
+        TokenBucketRateLimiter<String> limiter = newLimiter(5);
+        limiter.acquire("idle");
+        clock.addAndGet(30_000);
+        limiter.acquire("busy");
+        clock.addAndGet(30_000);
+
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThat(limiter.acquire("busy")).isZero();
+    }
+
+    @Test
+    void constructor_rejectsCapacityThatDoesNotFitTheState() {
+        assertThatThrownBy(() -> new TokenBucketRateLimiter<String>(
+            TokenBucketRateLimiter.MAX_CAPACITY + 1, Duration.ofMinutes(1)
+        )).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void acquire_returnsTimeUntilTheNextToken() {
+        TokenBucketRateLimiter<String> limiter = newLimiter(6);
+        drain(limiter, "client");
+
+        clock.addAndGet(4_000);
+
+        assertThat(limiter.acquire("client")).isEqualTo(6_000);
+    }
+
+    @Test
+    void acquire_withSmallerCapacity_limitsBurstButKeepsRate() {
+        TokenBucketRateLimiter<String> limiter =
+            new TokenBucketRateLimiter<>(60, Duration.ofMinutes(1), 2, clock::get);
+
+        assertThat(drain(limiter, "client")).isEqualTo(2);
+        clock.addAndGet(1_000);
+        assertThat(drain(limiter, "client")).isEqualTo(1);
+    }
+
+    private TokenBucketRateLimiter<String> newLimiter(int capacity) {
+        return new TokenBucketRateLimiter<>(capacity, Duration.ofMinutes(1), capacity, clock::get);
+    }
+
+    private static int drain(TokenBucketRateLimiter<String> limiter, String key) {
+        int granted = 0;
+        while (limiter.acquire(key) == 0) {
+            granted++;
+        }
+        return granted;
+    }
+}
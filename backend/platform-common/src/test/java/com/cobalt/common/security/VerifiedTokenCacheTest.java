@@ -0,0 +1,127 @@
+package com.cobalt.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.cobalt.common.config.TokenVerificationProperties;
+import com.cobalt.common.test.TestFixtures;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+    private JwtTokenProvider tokenProvider;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider(
+            TestFixtures.JWT_SECRET, 3600000L, 86400000L
+        );
+        cache = newCache(true);
+    }
+
+    @Test
+    void verifyAccessToken_withValidToken_returnsAuthentication() {
+        UUID userId = TestFixtures.randomUserId();
+        UUID tenantId = TestFixtures.randomTenantId();
+        String token = tokenProvider.generateAccessToken(
+            userId, "user@test.com", "MANAGER", tenantId
+        );
+
+        JwtAuthentication auth = cache.verifyAccessToken(token);
+
+        assertThat(auth).isNotNull();
+        assertThat(auth.getUserId()).isEqualTo(userId);
+        assertThat(auth.getTenantId()).isEqualTo(tenantId);
+        assertThat(auth.getName()).isEqualTo("user@test.com");
+        assertThat(auth.getAuthorities())
+            .extracting("authority")
+            .containsExactly("ROLE_MANAGER");
+    }
+
+    @Test
+    void verifyAccessToken_secondCall_returnsCachedInstance() {
+        String token = tokenProvider.generateAccessToken(
+            TestFixtures.randomUserId(), "user@test.com", "ADMIN",
+            TestFixtures.randomTenantId()
+        );
+
+        JwtAuthentication first = cache.verifyAccessToken(token);
+        JwtAuthentication second = cache.verifyAccessToken(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.estimatedSize()).isEqualTo(1);
+    }
+
+    @Test
+    void verifyAccessToken_withRefreshToken_returnsNull() {
+        String token = tokenProvider.generateRefreshToken(
+            TestFixtures.randomUserId(), TestFixtures.randomTenantId()
+        );
+
+        assertThat(cache.verifyAccessToken(token)).isNull();
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    void verifyAccessToken_withTamperedToken_returnsNull() {
+        String token = tokenProvider.generateAccessToken(
+            TestFixtures.randomUserId(), "user@test.com", "ADMIN",
+            TestFixtures.randomTenantId()
+        );
+        String tampered = token.substring(0, token.length() - 5) + "XXXXX";
+
+        assertThat(cache.verifyAccessToken(tampered)).isNull();
+    }
+
+    @Test
+    void verifyAccessToken_withExpiredToken_returnsNull() {
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(
+            TestFixtures.JWT_SECRET, 0L, 0L
+        );
+        String token = expiredProvider.generateAccessToken(
+            TestFixtures.randomUserId(), "user@test.com", "ADMIN",
+            TestFixtures.randomTenantId()
+        );
+
+        assertThat(cache.verifyAccessToken(token)).isNull();
+    }
+
+    @Test
+    void verifyAccessToken_whenDisabled_stillVerifies() {
+        VerifiedTokenCache disabled = newCache(false);
+        String token = tokenProvider.generateAccessToken(
+            TestFixtures.randomUserId(), "user@test.com", "ADMIN",
+            TestFixtures.randomTenantId()
+        );
+
+        assertThat(disabled.verifyAccessToken(token)).isNotNull();
+        assertThat(disabled.verifyAccessToken("invalid.token.here")).isNull();
+        assertThat(disabled.estimatedSize()).isZero();
+    }
+
+    @Test
+    void cachedAuthentication_cannotBeMarkedUnauthenticated() {
+        String token = tokenProvider.generateAccessToken(
+            TestFixtures.randomUserId(), "user@test.com", "ADMIN",
+            TestFixtures.randomTenantId()
+        );
+        JwtAuthentication auth = cache.verifyAccessToken(token);
+
+        assertThatThrownBy(() -> auth.setAuthenticated(false))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(auth.isAuthenticated()).isTrue();
+    }
+
+    private VerifiedTokenCache newCache(boolean enabled) {
+        var properties = new TokenVerificationProperties(
+            new TokenVerificationProperties.Cache(enabled, 100),
+            new TokenVerificationProperties.Compact(true)
+        );
+        return new VerifiedTokenCache(
+            new CompactJwtVerifier(tokenProvider, properties), properties
+        );
+    }
+}
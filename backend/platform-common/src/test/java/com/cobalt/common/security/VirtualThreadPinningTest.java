@@ -0,0 +1,128 @@
+package com.cobalt.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cobalt.common.datasource.TenantConnectionAdmission;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+
+// Runs the request-path concurrency primitives on virtual threads while JFR records
+// jdk.VirtualThreadPinned, which fires whenever a virtual thread blocks while pinned to
+// its carrier (e.g. parking inside a synchronized block).
+class VirtualThreadPinningTest {
+
+    private static final int TASKS = 200;
+
+    @Test
+    void requestPathPrimitives_doNotPinCarrierThreads() throws Exception {
+        List<UUID> tenants = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        TokenBucketRateLimiter<UUID> tokenBuckets =
+            new TokenBucketRateLimiter<>(1_000, Duration.ofMinutes(1));
+        GcraRateLimiter<UUID> gcra = new GcraRateLimiter<>(1_000, Duration.ofMinutes(1), 100);
+        CountMinSketchRateLimiter<String> sketch = new CountMinSketchRateLimiter<>(
+            1_000, Duration.ofMinutes(1), 1_024, 4, 10
+        );
+        TenantBulkhead bulkhead = new TenantBulkhead(Duration.ofMinutes(1));
+        AdaptiveConcurrencyLimit concurrencyLimit =
+            new AdaptiveConcurrencyLimit(50, 5, 200, 2.0, 0.2, 10, 600);
+        TenantConnectionAdmission admission = new TenantConnectionAdmission(4, 2);
+
+        List<String> pinned = recordPinning(() -> runOnVirtualThreads(index -> {
+            UUID tenantId = tenants.get(index % tenants.size());
+            TenantContext.<InterruptedException, RuntimeException>runWithTenant(tenantId, () -> {
+                tokenBuckets.acquire(TenantContext.getCurrentTenantId());
+                gcra.acquire(tenantId);
+                sketch.acquire("192.0.2." + (index % 50));
+                AtomicInteger inFlight = bulkhead.tryAcquire(tenantId, 1_000);
+                boolean admitted = concurrencyLimit.tryAcquire();
+                // Contended admission parks on a Condition while the lock is released
+                if (admission.acquire(tenantId, 1 + index % 3, 10, TimeUnit.SECONDS)) {
+                    try {
+                        Thread.sleep(2);
+                    } finally {
+                        admission.release(tenantId);
+                    }
+                }
+                if (admitted) {
+                    concurrencyLimit.release(2_000_000, false);
+                }
+                inFlight.decrementAndGet();
+            });
+        }));
+
+        assertThat(pinned).isEmpty();
+    }
+
+    @Test
+    void blockingInsideSynchronized_isReportedAsPinning() throws Exception {
+        Object monitor = new Object();
+
+        List<String> pinned = recordPinning(() -> runOnVirtualThreads(index -> {
+            synchronized (monitor) {
+                Thread.sleep(1);
+            }
+        }));
+
+        assertThat(pinned).isNotEmpty();
+    }
+
+    private static List<String> recordPinning(Workload workload) throws Exception {
+        List<String> pinned = new CopyOnWriteArrayList<>();
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            stream.onEvent("jdk.VirtualThreadPinned", event -> pinned.add(describe(event)));
+            stream.startAsync();
+            workload.run();
+            stream.stop();
+        }
+        return pinned;
+    }
+
+    private static void runOnVirtualThreads(Task task) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < TASKS; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    task.run(index);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    private static String describe(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return event.getEventType().getName();
+        }
+        return event.getStackTrace().getFrames().stream()
+            .limit(8)
+            .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+            .collect(Collectors.joining(" <- "));
+    }
+
+    @FunctionalInterface
+    private interface Workload {
+        void run() throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run(int index) throws Exception;
+    }
+}
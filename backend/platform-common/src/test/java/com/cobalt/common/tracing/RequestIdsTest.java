@@ -0,0 +1,60 @@
+package com.cobalt.common.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+class RequestIdsTest {
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    void next_isAVersion7UuidCarryingTheCurrentTime() {
+        long before = System.currentTimeMillis();
+        UUID id = UUID.fromString(RequestIds.next());
+        long after = System.currentTimeMillis();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isBetween(before, after);
+    }
+
+    @Test
+    void next_isUniqueAndOrderedAcrossMilliseconds() throws InterruptedException {
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(RequestIds.next());
+        }
+        String earlier = RequestIds.next();
+        Thread.sleep(2);
+        String later = RequestIds.next();
+
+        assertThat(ids).hasSize(10_000);
+        assertThat(later).isGreaterThan(earlier);
+    }
+
+    @Test
+    void current_reusesTheRequestIdInMdc() {
+        MDC.put(RequestIds.MDC_KEY, "req-123");
+
+        assertThat(RequestIds.current()).isEqualTo("req-123");
+    }
+
+    @Test
+    void isAcceptable_rejectsIdsUnsafeForLogs() {
+        assertThat(RequestIds.isAcceptable("0190b6a2-7c1e-7d3a-9f00-1234567890ab")).isTrue();
+        assertThat(RequestIds.isAcceptable("gateway:abc_123.4")).isTrue();
+        assertThat(RequestIds.isAcceptable(null)).isFalse();
+        assertThat(RequestIds.isAcceptable("")).isFalse();
+        assertThat(RequestIds.isAcceptable("abc\ninjected")).isFalse();
+        assertThat(RequestIds.isAcceptable("a".repeat(129))).isFalse();
+    }
+}
@@ -0,0 +1,86 @@
+package com.cobalt.common.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.MDC;
+
+class TraceParentTest {
+
+    private static final String VALID =
+        "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    void parse_readsAllFields() {
+        TraceParent trace = TraceParent.parse(VALID);
+
+        assertThat(trace.traceId()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(trace.parentId()).isEqualTo("00f067aa0ba902b7");
+        assertThat(trace.flags()).isEqualTo("01");
+        assertThat(trace.toHeader()).isEqualTo(VALID);
+    }
+
+    @Test
+    void parse_acceptsFutureVersionsWithExtraFields() {
+        TraceParent trace = TraceParent.parse(
+            "cc-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01-what-the-future-holds"
+        );
+
+        assertThat(trace).isNotNull();
+        assertThat(trace.toHeader()).isEqualTo(VALID);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "",
+        "garbage",
+        "ff-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01",
+        "00-00000000000000000000000000000000-00f067aa0ba902b7-01",
+        "00-4bf92f3577b34da6a3ce929d0e0e4736-0000000000000000-01",
+        "00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01",
+        "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01-extra",
+        "00-4bf92f3577b34da6a3ce929d0e0e473-600f067aa0ba902b7-01",
+        "00_4bf92f3577b34da6a3ce929d0e0e4736_00f067aa0ba902b7_01"
+    })
+    void parse_rejectsMalformedHeaders(String header) {
+        assertThat(TraceParent.parse(header)).isNull();
+    }
+
+    @Test
+    void child_keepsTraceAndFlagsWithANewSpan() {
+        TraceParent parent = TraceParent.parse(VALID);
+
+        TraceParent child = parent.child();
+
+        assertThat(child.traceId()).isEqualTo(parent.traceId());
+        assertThat(child.flags()).isEqualTo(parent.flags());
+        assertThat(child.parentId()).hasSize(16).isNotEqualTo(parent.parentId());
+    }
+
+    @Test
+    void newRoot_producesAHeaderThatParses() {
+        TraceParent root = TraceParent.newRoot();
+
+        assertThat(TraceParent.parse(root.toHeader())).isEqualTo(root);
+        assertThat(root.traceId()).hasSize(32);
+    }
+
+    @Test
+    void current_readsTheRequestsTraceFromMdc() {
+        assertThat(TraceParent.current()).isNull();
+
+        MDC.put(TraceParent.TRACE_ID_KEY, "4bf92f3577b34da6a3ce929d0e0e4736");
+        MDC.put(TraceParent.SPAN_ID_KEY, "00f067aa0ba902b7");
+        MDC.put(TraceParent.FLAGS_KEY, "01");
+
+        assertThat(TraceParent.current()).isEqualTo(TraceParent.parse(VALID));
+    }
+}